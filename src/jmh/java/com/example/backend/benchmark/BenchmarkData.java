@@ -0,0 +1,36 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.talent.model.entity.Talent;
+
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+final class BenchmarkData {
+    static final int PAGE_SIZE = 20;
+
+    private BenchmarkData() {
+    }
+
+    static Talent talent(long id) {
+        return Talent.builder()
+                .id(id)
+                .lastname("Doe")
+                .firstname("John")
+                .avatar("https://s3.amazonaws.com/uifaces/faces/twitter/john/128.jpg")
+                .banner("https://lorempixel.com/1280/400/abstract/")
+                .email("john.doe" + id + "@gmail.com")
+                .password("$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy")
+                .birthday(LocalDate.of(1995, 5, 17))
+                .location("Ukraine, Kyiv")
+                .aboutMe("Backend developer with several years of experience in Java and Spring, "
+                        + "interested in distributed systems and performance engineering")
+                .skills(new LinkedHashSet<>(List.of("Java", "Spring Boot", "PostgreSQL", "Docker", "Kafka")))
+                .build();
+    }
+
+    static List<Talent> talents(int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(BenchmarkData::talent).toList();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.mapper.TalentMapper;
+import com.example.backend.pagination.PageWithMetadata;
+import com.example.backend.talent.model.response.TalentGeneralInfo;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  Encoding and decoding of a listing page in JSON, CBOR and Smile, built the same way as the message converters.
+ *  Payload size of every format and page size is printed when its trial starts
+ *
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryFormatBenchmark {
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private JavaType pageType;
+    private PageWithMetadata<TalentGeneralInfo> page;
+    private byte[] encodedPage;
+
+    @Setup
+    public void setUp() throws Exception {
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .build();
+        pageType = objectMapper.getTypeFactory().constructParametricType(PageWithMetadata.class, TalentGeneralInfo.class);
+        TalentMapper talentMapper = Mappers.getMapper(TalentMapper.class);
+        page = new PageWithMetadata<>(talentMapper.toTalentGeneralInfos(BenchmarkData.talents(pageSize)), 50);
+        encodedPage = objectMapper.writeValueAsBytes(page);
+        System.out.printf("%n%s payload of %d talents: %d bytes%n", format, pageSize, encodedPage.length);
+    }
+
+    @Benchmark
+    public byte[] encodeListingPage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public PageWithMetadata<TalentGeneralInfo> decodeListingPage() throws Exception {
+        return objectMapper.readValue(encodedPage, pageType);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.mapper.TalentMapper;
+import com.example.backend.pagination.PageWithMetadata;
+import com.example.backend.talent.model.response.TalentGeneralInfo;
+import com.example.backend.talent.model.response.TalentOwnProfile;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  Serialization of response bodies with the same naming strategy as application.properties
+ *
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JacksonSerializationBenchmark {
+    private ObjectMapper objectMapper;
+    private PageWithMetadata<TalentGeneralInfo> page;
+    private TalentOwnProfile ownProfile;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .build();
+        TalentMapper talentMapper = Mappers.getMapper(TalentMapper.class);
+        page = new PageWithMetadata<>(
+                talentMapper.toTalentGeneralInfos(BenchmarkData.talents(BenchmarkData.PAGE_SIZE)), 50);
+        ownProfile = talentMapper.toTalentOwnProfile(BenchmarkData.talent(1));
+    }
+
+    @Benchmark
+    public byte[] serializeListingPage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeOwnProfile() throws Exception {
+        return objectMapper.writeValueAsBytes(ownProfile);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.jwt.JwtClaims;
+import com.example.backend.jwt.JwtTokenProvider;
+import com.example.backend.talent.model.entity.Talent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  Token generation on login and token verification done by JwtAuthenticationFilter on every request,
+ *  with warm verification cache and with cache disabled
+ *
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+    private static final String SECRET = "benchmark-secret";
+
+    private JwtTokenProvider cachingProvider;
+    private JwtTokenProvider uncachedProvider;
+    private Talent talent;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachingProvider = new JwtTokenProvider(SECRET, 10_000, 10_000, 30_000, new SimpleMeterRegistry());
+        uncachedProvider = new JwtTokenProvider(SECRET, 0, 0, 30_000, new SimpleMeterRegistry());
+        talent = BenchmarkData.talent(1);
+        token = cachingProvider.generateJwtToken(talent);
+        cachingProvider.verifyToken(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachingProvider.generateJwtToken(talent);
+    }
+
+    @Benchmark
+    public Optional<JwtClaims> verifyCachedToken() {
+        return cachingProvider.verifyToken(token);
+    }
+
+    @Benchmark
+    public Optional<JwtClaims> verifyUncachedToken() {
+        return uncachedProvider.verifyToken(token);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.mapper.TalentMapper;
+import com.example.backend.talent.model.entity.Talent;
+import com.example.backend.talent.model.response.TalentGeneralInfo;
+import com.example.backend.talent.model.response.TalentOwnProfile;
+import com.example.backend.talent.model.response.TalentProfile;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TalentMapperBenchmark {
+    private TalentMapper talentMapper;
+    private List<Talent> page;
+    private Talent talent;
+
+    @Setup
+    public void setUp() {
+        talentMapper = Mappers.getMapper(TalentMapper.class);
+        page = BenchmarkData.talents(BenchmarkData.PAGE_SIZE);
+        talent = BenchmarkData.talent(1);
+    }
+
+    @Benchmark
+    public List<TalentGeneralInfo> mapListingPage() {
+        return talentMapper.toTalentGeneralInfos(page);
+    }
+
+    @Benchmark
+    public TalentProfile mapProfile() {
+        return talentMapper.toTalentProfile(talent);
+    }
+
+    @Benchmark
+    public TalentOwnProfile mapOwnProfile() {
+        return talentMapper.toTalentOwnProfile(talent);
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.backend.accesslog;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.backend.jwt.JwtConstant.TALENT_ID_ATTRIBUTE;
+
+/**
+ *  Filter writing one access log record per request: method, route template, status, duration,
+ *  bytes of response body and id of authenticated talent. Successful requests are sampled,
+ *  client and server errors are always logged. Asynchronous requests are logged when they complete
+ *
+ * */
+public class AccessLogFilter extends OncePerRequestFilter {
+    private static final String UNMATCHED_ROUTE = "unmatched";
+
+    private final AccessLogWriter accessLogWriter;
+    private final double sampleRate;
+
+    public AccessLogFilter(AccessLogWriter accessLogWriter, double sampleRate) {
+        this.accessLogWriter = accessLogWriter;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long startedAt = System.nanoTime();
+        CountingResponse countingResponse = new CountingResponse(response);
+        try {
+            filterChain.doFilter(request, countingResponse);
+        } finally {
+            /* characters written through the writer of the wrapper are buffered by it, not by the container */
+            countingResponse.flushWriter();
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        countingResponse.flushWriter();
+                        log(request, countingResponse, startedAt);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                log(request, countingResponse, startedAt);
+            }
+        }
+    }
+
+    private void log(HttpServletRequest request, CountingResponse response, long startedAt) {
+        int status = response.getStatus();
+        if (status < 400 && sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Object talentId = request.getAttribute(TALENT_ID_ATTRIBUTE);
+        accessLogWriter.log(System.currentTimeMillis(),
+                request.getMethod(),
+                route instanceof String ? (String) route : UNMATCHED_ROUTE,
+                status,
+                TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt),
+                response.bytes,
+                talentId instanceof Long ? (Long) talentId : -1);
+    }
+
+    private static class CountingResponse extends HttpServletResponseWrapper {
+        private long bytes;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream delegate = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        delegate.setWriteListener(writeListener);
+                    }
+
+                    @Override
+                    public void write(int b) throws IOException {
+                        delegate.write(b);
+                        bytes++;
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        delegate.write(b, off, len);
+                        bytes += len;
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        delegate.close();
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            flushWriter();
+            super.flushBuffer();
+        }
+
+        /* PrintWriter does not throw, a failed flush is reported by checkError and not needed here */
+        void flushWriter() {
+            if (writer != null) {
+                writer.flush();
+            }
+        }
+    }
+}
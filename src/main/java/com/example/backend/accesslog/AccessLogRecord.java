@@ -0,0 +1,25 @@
+package com.example.backend.accesslog;
+
+/**
+ *  Preallocated slot of access log ring buffer, it is reused for every record written into the slot
+ *
+ * */
+class AccessLogRecord {
+    long timestamp;
+    String method;
+    String route;
+    int status;
+    long durationMicros;
+    long bytes;
+    long talentId;
+
+    void set(long timestamp, String method, String route, int status, long durationMicros, long bytes, long talentId) {
+        this.timestamp = timestamp;
+        this.method = method;
+        this.route = route;
+        this.status = status;
+        this.durationMicros = durationMicros;
+        this.bytes = bytes;
+        this.talentId = talentId;
+    }
+}
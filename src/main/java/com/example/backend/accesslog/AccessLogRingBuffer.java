@@ -0,0 +1,88 @@
+package com.example.backend.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ *  Bounded lock-free ring buffer of access log records with many producers and one consumer.
+ *  Every slot has a sequence number: producer claims a slot by moving the tail with CAS when the slot
+ *  sequence equals tail position, fills the preallocated record and publishes it by advancing the sequence.
+ *  When the buffer is full, offer fails right away, so request threads never wait for the writer
+ *
+ * */
+class AccessLogRingBuffer {
+    private final AccessLogRecord[] records;
+    private final AtomicLongArray sequences;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    AccessLogRingBuffer(int requestedCapacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1) << 1);
+        this.mask = capacity - 1;
+        this.records = new AccessLogRecord[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            records[i] = new AccessLogRecord();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Write record into buffer
+     *
+     * @return false if buffer is full and record was dropped
+     * */
+    boolean offer(long timestamp, String method, String route, int status, long durationMicros, long bytes, long talentId) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    records[index].set(timestamp, method, route, status, durationMicros, bytes, talentId);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Pass published records to consumer and free their slots, must be called from one thread only
+     *
+     * @param consumer consumer of records, record must not be kept after it returns
+     * @param maxRecords max number of records to drain
+     *
+     * @return number of drained records
+     * */
+    int drain(Consumer<AccessLogRecord> consumer, int maxRecords) {
+        int drained = 0;
+        while (drained < maxRecords) {
+            int index = (int) (head & mask);
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            consumer.accept(records[index]);
+            sequences.set(index, head + capacity);
+            head++;
+            drained++;
+        }
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
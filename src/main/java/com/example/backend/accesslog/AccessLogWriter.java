@@ -0,0 +1,173 @@
+package com.example.backend.accesslog;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ *  Access log with a background writer.
+ *  Request threads only put records into the ring buffer, a single daemon thread drains it into
+ *  a local file as JSON lines. File is rolled when it grows over max size, only last files are kept
+ *
+ * */
+@Slf4j
+public class AccessLogWriter {
+    private static final int DRAIN_BATCH = 1024;
+
+    private final AccessLogRingBuffer ringBuffer;
+    private final Path file;
+    private final long maxFileSize;
+    private final int maxFiles;
+    private final long flushIntervalNanos;
+    private final LongAdder droppedRecords = new LongAdder();
+    private final StringBuilder line = new StringBuilder(256);
+    private final Thread thread;
+    private volatile boolean running;
+    private Writer writer;
+    private long fileSize;
+
+    public AccessLogWriter(Path file, int bufferSize, long maxFileSize, int maxFiles, long flushIntervalMillis) {
+        this.ringBuffer = new AccessLogRingBuffer(bufferSize);
+        this.file = file;
+        this.maxFileSize = maxFileSize;
+        this.maxFiles = maxFiles;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.thread = new Thread(this::run, "access-log-writer");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Put record into buffer, record is dropped and counted when buffer is full
+     *
+     * @param talentId id of authenticated talent or -1
+     * */
+    public void log(long timestamp, String method, String route, int status, long durationMicros, long bytes, long talentId) {
+        if (!ringBuffer.offer(timestamp, method, route, status, durationMicros, bytes, talentId)) {
+            droppedRecords.increment();
+        }
+    }
+
+    public long getDroppedRecords() {
+        return droppedRecords.sum();
+    }
+
+    public int getBufferedRecords() {
+        return ringBuffer.size();
+    }
+
+    public int getBufferCapacity() {
+        return ringBuffer.capacity();
+    }
+
+    public void start() throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        openFile();
+        running = true;
+        thread.start();
+    }
+
+    /**
+     * Stop writer thread and write records left in buffer
+     * */
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(thread);
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                if (drain() == 0) {
+                    writer.flush();
+                    LockSupport.parkNanos(flushIntervalNanos);
+                }
+            }
+            while (drain() > 0) {
+                /* write everything left before shutdown */
+            }
+            writer.close();
+        } catch (IOException e) {
+            log.error("Access log writer stopped", e);
+        }
+    }
+
+    private int drain() throws IOException {
+        int drained = ringBuffer.drain(this::append, DRAIN_BATCH);
+        if (fileSize >= maxFileSize) {
+            rollFile();
+        }
+        return drained;
+    }
+
+    private void append(AccessLogRecord record) {
+        line.setLength(0);
+        line.append("{\"time\":\"").append(Instant.ofEpochMilli(record.timestamp))
+                .append("\",\"method\":\"").append(record.method)
+                .append("\",\"route\":\"");
+        appendEscaped(record.route);
+        line.append("\",\"status\":").append(record.status)
+                .append(",\"duration_us\":").append(record.durationMicros)
+                .append(",\"bytes\":").append(record.bytes);
+        if (record.talentId >= 0) {
+            line.append(",\"talent_id\":").append(record.talentId);
+        }
+        line.append("}\n");
+        try {
+            writer.append(line);
+            fileSize += line.length();
+        } catch (IOException e) {
+            droppedRecords.increment();
+        }
+    }
+
+    private void appendEscaped(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if (character == '"' || character == '\\') {
+                line.append('\\').append(character);
+            } else if (character < 0x20) {
+                line.append(String.format("\\u%04x", (int) character));
+            } else {
+                line.append(character);
+            }
+        }
+    }
+
+    private void openFile() throws IOException {
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        fileSize = Files.size(file);
+    }
+
+    private void rollFile() throws IOException {
+        writer.close();
+        for (int index = maxFiles - 1; index >= 1; index--) {
+            Path source = index == 1 ? file : rolledFile(index - 1);
+            if (Files.exists(source)) {
+                Files.move(source, rolledFile(index), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (maxFiles <= 1) {
+            Files.deleteIfExists(file);
+        }
+        openFile();
+    }
+
+    private Path rolledFile(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.backend.bootstrapdata;
+
+public enum SkillDistribution {
+    UNIFORM, ZIPF
+}
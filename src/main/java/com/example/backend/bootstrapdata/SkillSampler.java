@@ -0,0 +1,68 @@
+package com.example.backend.bootstrapdata;
+
+import com.github.javafaker.Faker;
+
+import java.util.*;
+
+/**
+ *  Sampler of skills from a fixed dictionary.
+ *  With zipf distribution skill of rank k is picked with probability proportional to 1 / k^exponent,
+ *  which gives a few very popular skills and a long tail like in real profiles
+ *
+ * */
+class SkillSampler {
+    private static final int MAX_SKILL_LENGTH = 20;
+
+    private final String[] skills;
+    private final double[] cumulativeWeights;
+
+    SkillSampler(int cardinality, SkillDistribution distribution, double exponent, long seed) {
+        this.skills = createDictionary(cardinality, seed);
+        this.cumulativeWeights = distribution == SkillDistribution.ZIPF ? zipfWeights(cardinality, exponent) : null;
+    }
+
+    Set<String> sample(Random random, int count) {
+        Set<String> sample = new LinkedHashSet<>();
+        int target = Math.min(count, skills.length);
+        while (sample.size() < target) {
+            sample.add(skills[nextIndex(random)]);
+        }
+        return sample;
+    }
+
+    private int nextIndex(Random random) {
+        if (cumulativeWeights == null) {
+            return random.nextInt(skills.length);
+        }
+        int index = Arrays.binarySearch(cumulativeWeights, random.nextDouble());
+        return Math.min(index < 0 ? -index - 1 : index, skills.length - 1);
+    }
+
+    private static String[] createDictionary(int cardinality, long seed) {
+        Faker faker = new Faker(new Random(seed));
+        Set<String> dictionary = new LinkedHashSet<>();
+        for (int attempt = 0; attempt < cardinality * 10 && dictionary.size() < cardinality; attempt++) {
+            String skill = attempt % 2 == 0 ? faker.job().keySkills() : faker.programmingLanguage().name();
+            if (skill.length() <= MAX_SKILL_LENGTH) {
+                dictionary.add(skill);
+            }
+        }
+        for (int i = 0; dictionary.size() < cardinality; i++) {
+            dictionary.add("Skill " + i);
+        }
+        return dictionary.toArray(String[]::new);
+    }
+
+    private static double[] zipfWeights(int cardinality, double exponent) {
+        double[] weights = new double[cardinality];
+        double sum = 0;
+        for (int rank = 1; rank <= cardinality; rank++) {
+            sum += 1 / Math.pow(rank, exponent);
+            weights[rank - 1] = sum;
+        }
+        for (int i = 0; i < cardinality; i++) {
+            weights[i] /= sum;
+        }
+        return weights;
+    }
+}
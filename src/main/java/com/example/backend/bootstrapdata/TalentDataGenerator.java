@@ -0,0 +1,176 @@
+package com.example.backend.bootstrapdata;
+
+import com.example.backend.talent.importer.TalentBatchWriter;
+import com.example.backend.talent.importer.TalentIdAllocator;
+import com.example.backend.talent.model.entity.Talent;
+import com.example.backend.utils.service.PasswordHashingService;
+import com.github.javafaker.Faker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ *  Generator of synthetic talents.
+ *  Rows are generated in chunks on a pool of workers, every chunk with Faker seeded by the seed and
+ *  chunk number. Ids are allocated in chunk order before a chunk is submitted, so the same settings
+ *  produce the same rows with the same ids on a fresh database whatever the thread scheduling is.
+ *  Shared password is hashed once and chunks are inserted with JDBC batches
+ *
+ * */
+@Slf4j
+@Component
+@Profile({"dev", "generate"})
+public class TalentDataGenerator {
+    private final TalentBatchWriter talentBatchWriter;
+    private final TalentIdAllocator talentIdAllocator;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionTemplate transactionTemplate;
+    private final long rows;
+    private final int batchSize;
+    private final int parallelism;
+    private final long seed;
+    private final int minSkills;
+    private final int maxSkills;
+    private final int aboutMeWords;
+    private final String password;
+    private final long reportIntervalMillis;
+    private final SkillSampler skillSampler;
+    private final ThreadLocal<SeededFaker> fakers;
+
+    public TalentDataGenerator(TalentBatchWriter talentBatchWriter,
+                               TalentIdAllocator talentIdAllocator,
+                               PasswordHashingService passwordHashingService,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${talent.generator.rows:20}") long rows,
+                               @Value("${talent.generator.batch-size:1000}") int batchSize,
+                               @Value("${talent.generator.parallelism:0}") int parallelism,
+                               @Value("${talent.generator.seed:42}") long seed,
+                               @Value("${talent.generator.skill-cardinality:200}") int skillCardinality,
+                               @Value("${talent.generator.skill-distribution:zipf}") SkillDistribution skillDistribution,
+                               @Value("${talent.generator.zipf-exponent:1.0}") double zipfExponent,
+                               @Value("${talent.generator.min-skills:3}") int minSkills,
+                               @Value("${talent.generator.max-skills:5}") int maxSkills,
+                               @Value("${talent.generator.about-me-words:30}") int aboutMeWords,
+                               @Value("${talent.generator.password:1234567890}") String password,
+                               @Value("${talent.generator.report-interval-ms:5000}") long reportIntervalMillis) {
+        this.talentBatchWriter = talentBatchWriter;
+        this.talentIdAllocator = talentIdAllocator;
+        this.passwordHashingService = passwordHashingService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rows = rows;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.seed = seed;
+        this.minSkills = minSkills;
+        this.maxSkills = Math.max(minSkills, maxSkills);
+        this.aboutMeWords = aboutMeWords;
+        this.password = password;
+        this.reportIntervalMillis = reportIntervalMillis;
+        this.skillSampler = new SkillSampler(skillCardinality, skillDistribution, zipfExponent, seed);
+        this.fakers = ThreadLocal.withInitial(SeededFaker::new);
+    }
+
+    /**
+     * Generate and save talents
+     *
+     * @return number of saved talents
+     * */
+    public long generate() throws InterruptedException, ExecutionException {
+        String encodedPassword = passwordHashingService.encode(password);
+        long chunks = (rows + batchSize - 1) / batchSize;
+        log.info("Generating {} talents in {} chunks on {} threads", rows, chunks, parallelism);
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("talent-generator-"));
+        CompletionService<Integer> completionService = new ExecutorCompletionService<>(executor);
+        long startedAt = System.nanoTime();
+        long reportedAt = startedAt;
+        long saved = 0;
+        try {
+            long submitted = 0;
+            long completed = 0;
+            while (completed < chunks) {
+                /* keep a bounded number of generated chunks in memory */
+                while (submitted < chunks && submitted - completed < parallelism * 2L) {
+                    long chunk = submitted++;
+                    long[] ids = talentIdAllocator.allocate(chunkSize(chunk));
+                    completionService.submit(() -> generateChunk(chunk, ids, encodedPassword));
+                }
+                saved += completionService.take().get();
+                completed++;
+
+                long now = System.nanoTime();
+                if (now - reportedAt >= TimeUnit.MILLISECONDS.toNanos(reportIntervalMillis)) {
+                    log.info("Generated {}/{} talents, {} rows/sec", saved, rows, rate(saved, now - startedAt));
+                    reportedAt = now;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long elapsed = System.nanoTime() - startedAt;
+        log.info("Generated {} talents in {} ms, {} rows/sec",
+                saved, TimeUnit.NANOSECONDS.toMillis(elapsed), rate(saved, elapsed));
+        return saved;
+    }
+
+    private int chunkSize(long chunk) {
+        return (int) Math.min(batchSize, rows - chunk * batchSize);
+    }
+
+    private int generateChunk(long chunk, long[] ids, String encodedPassword) {
+        long first = chunk * batchSize;
+        int size = ids.length;
+
+        SeededFaker seededFaker = fakers.get();
+        seededFaker.random.setSeed(seed * 31 + chunk);
+
+        List<Talent> talents = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            talents.add(generateTalent(seededFaker, ids[i], first + i, encodedPassword));
+        }
+        transactionTemplate.executeWithoutResult(status -> talentBatchWriter.insert(talents));
+        return size;
+    }
+
+    private Talent generateTalent(SeededFaker seededFaker, long id, long index, String encodedPassword) {
+        Faker faker = seededFaker.faker;
+        String lastname = faker.name().lastName();
+        String firstname = faker.name().firstName();
+        String email = (firstname + "." + lastname).toLowerCase(Locale.ROOT).replaceAll("[^a-z.]", "")
+                + "." + index + "@gmail.com";
+        String location = faker.address().country() + ", " + faker.address().cityName();
+        int skillsCount = minSkills + seededFaker.random.nextInt(maxSkills - minSkills + 1);
+
+        return Talent.builder()
+                .id(id)
+                .lastname(lastname)
+                .firstname(firstname)
+                .avatar(faker.avatar().image())
+                .banner(faker.internet().image())
+                .email(email)
+                .password(encodedPassword)
+                .birthday(LocalDate.of(1970, 1, 1).plusDays(seededFaker.random.nextInt(365 * 35)))
+                .aboutMe(String.join(" ", faker.lorem().words(aboutMeWords)))
+                .location(location)
+                .skills(skillSampler.sample(seededFaker.random, skillsCount))
+                .build();
+    }
+
+    private static long rate(long saved, long elapsedNanos) {
+        return elapsedNanos == 0 ? 0 : saved * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    private static class SeededFaker {
+        private final Random random = new Random();
+        private final Faker faker = new Faker(random);
+    }
+}
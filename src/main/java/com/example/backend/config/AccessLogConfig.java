@@ -0,0 +1,47 @@
+package com.example.backend.config;
+
+import com.example.backend.accesslog.AccessLogFilter;
+import com.example.backend.accesslog.AccessLogWriter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+@Configuration
+@ConditionalOnProperty(value = "access-log.enabled", matchIfMissing = true)
+public class AccessLogConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public AccessLogWriter accessLogWriter(@Value("${access-log.path:logs/access.log}") String path,
+                                           @Value("${access-log.buffer-size:8192}") int bufferSize,
+                                           @Value("${access-log.max-file-size:10MB}") DataSize maxFileSize,
+                                           @Value("${access-log.max-files:5}") int maxFiles,
+                                           @Value("${access-log.flush-interval-ms:200}") long flushIntervalMillis,
+                                           MeterRegistry meterRegistry) {
+        AccessLogWriter accessLogWriter = new AccessLogWriter(Path.of(path), bufferSize,
+                maxFileSize.toBytes(), maxFiles, flushIntervalMillis);
+        FunctionCounter.builder("access.log.dropped", accessLogWriter, AccessLogWriter::getDroppedRecords)
+                .register(meterRegistry);
+        Gauge.builder("access.log.buffered", accessLogWriter, AccessLogWriter::getBufferedRecords)
+                .register(meterRegistry);
+        return accessLogWriter;
+    }
+
+    @Bean
+    public FilterRegistrationBean<AccessLogFilter> accessLogFilter(AccessLogWriter accessLogWriter,
+                                                                   @Value("${access-log.sample-rate:1.0}") double sampleRate) {
+        FilterRegistrationBean<AccessLogFilter> registration =
+                new FilterRegistrationBean<>(new AccessLogFilter(accessLogWriter, sampleRate));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
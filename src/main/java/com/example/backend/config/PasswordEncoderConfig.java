@@ -1,14 +1,66 @@
 package com.example.backend.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Map;
+
+/**
+ *  Password encoder configuration.
+ *  Hashes are stored with algorithm id prefix ({bcrypt}$2a$12$...), so algorithm and cost
+ *  can be changed without resetting passwords, outdated hashes are upgraded on login.
+ *  When strength is not set explicitly, it is calibrated on startup to hit the latency target
+ *
+ * */
+@Slf4j
 @Configuration
 public class PasswordEncoderConfig {
+    private static final String BCRYPT_ID = "bcrypt";
+    private static final int CALIBRATION_STRENGTH = 6;
+    private static final int CALIBRATION_ROUNDS = 5;
+    private static final int MAX_STRENGTH = 20;
+
     @Bean
-    public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password.hashing.strength:0}") int strength,
+                                           @Value("${password.hashing.min-strength:10}") int minStrength,
+                                           @Value("${password.hashing.target-ms:250}") long targetMillis) {
+        int bcryptStrength = strength > 0 ? strength : calibrateStrength(minStrength, targetMillis);
+        log.info("Password hashing uses bcrypt with strength {}", bcryptStrength);
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+        /* hashes created before the id prefix was introduced are plain bcrypt */
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return passwordEncoder;
+    }
+
+    /**
+     * Pick the highest bcrypt strength whose hash still fits into the latency target.
+     * Every next strength doubles the work, so one measurement on a cheap strength is enough
+     *
+     * @param minStrength lower bound of strength
+     * @param targetMillis per-hash latency target
+     *
+     * @return bcrypt strength
+     * */
+    private static int calibrateStrength(int minStrength, long targetMillis) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(CALIBRATION_STRENGTH);
+        encoder.encode("calibration"); // warm up
+
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration");
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+
+        double ratio = (targetMillis * 1_000_000d) / Math.max(bestNanos, 1);
+        int strength = CALIBRATION_STRENGTH + (int) Math.floor(Math.log(ratio) / Math.log(2));
+        return Math.max(minStrength, Math.min(strength, MAX_STRENGTH));
     }
 }
@@ -0,0 +1,55 @@
+package com.example.backend.config;
+
+import com.example.backend.ratelimit.RateLimit;
+import com.example.backend.ratelimit.RateLimitFilter;
+import com.example.backend.ratelimit.RateLimitRule;
+import com.example.backend.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(value = "rate-limit.enabled", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimiter rateLimiter(@Value("${rate-limit.max-buckets:100000}") long maxBuckets,
+                                   MeterRegistry meterRegistry) {
+        RateLimiter rateLimiter = new RateLimiter(maxBuckets);
+        Gauge.builder("rate.limit.buckets", rateLimiter, RateLimiter::getBucketCount)
+                .register(meterRegistry);
+        return rateLimiter;
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+            RateLimiter rateLimiter,
+            MeterRegistry meterRegistry,
+            @Value("${rate-limit.login.per-ip:30/PT1M}") String loginPerIp,
+            @Value("${rate-limit.login.per-email:10/PT1M}") String loginPerEmail,
+            @Value("${rate-limit.registration.per-ip:10/PT1M}") String registrationPerIp,
+            @Value("${rate-limit.registration.per-email:}") String registrationPerEmail,
+            @Value("${rate-limit.email-availability.per-ip:60/PT1M}") String emailAvailabilityPerIp) {
+        List<RateLimitRule> rules = List.of(
+                new RateLimitRule("login", "POST", "/api/v1/talents/login",
+                        RateLimit.parse(loginPerIp), RateLimit.parse(loginPerEmail)),
+                new RateLimitRule("registration", "POST", "/api/v1/talents",
+                        RateLimit.parse(registrationPerIp), RateLimit.parse(registrationPerEmail)),
+                new RateLimitRule("email-availability", "GET", "/api/v1/talents/email-availability",
+                        RateLimit.parse(emailAvailabilityPerIp), null));
+
+        FilterRegistrationBean<RateLimitFilter> registration =
+                new FilterRegistrationBean<>(new RateLimitFilter(rateLimiter, rules, meterRegistry));
+        /* right after access log, so rejected requests are still logged, and before security filters */
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        registration.addUrlPatterns("/api/v1/talents", "/api/v1/talents/login", "/api/v1/talents/email-availability");
+        return registration;
+    }
+}
@@ -3,6 +3,7 @@ package com.example.backend.config;
 import com.example.backend.jwt.JwtAuthenticationFilter;
 import com.example.backend.jwt.handler.JwtAccessDeniedHandler;
 import com.example.backend.jwt.handler.JwtAuthenticationEntryPoint;
+import com.example.backend.principal.Role;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -43,6 +44,7 @@ public class SecurityConfig {
                 .headers().frameOptions().disable()
                 .and()
                 .authorizeHttpRequests((authz) -> authz
+                        .requestMatchers("/api/v1/talents/export/**", "/api/v1/talents/import/**").hasAuthority(Role.ADMIN.name())
                         .requestMatchers(GET, "/api/v1/talents").permitAll()
                         .requestMatchers(POST, "/api/v1/talents", "/api/v1/talents/login").permitAll()
                         .requestMatchers("/api-documentation/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
@@ -7,13 +7,14 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
+import static com.example.backend.jwt.JwtConstant.TALENT_ID_ATTRIBUTE;
 import static com.example.backend.jwt.JwtConstant.TOKEN_HEADER;
 
 @Component
@@ -29,22 +30,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String authorizationHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
 
         /* check if header with jwt-token exists */
-        if (authorizationHeader != null && authorizationHeader.startsWith(TOKEN_HEADER)) {
+        if (authorizationHeader != null && authorizationHeader.startsWith(TOKEN_HEADER) &&
+                SecurityContextHolder.getContext().getAuthentication() == null) {
 
             String jwtToken = authorizationHeader.substring(TOKEN_HEADER.length());
-            String email = jwtTokenProvider.getSubject(jwtToken);
 
-            /* check if token valid */
-            if (jwtTokenProvider.isTokenValid(email, jwtToken) &&
-                    SecurityContextHolder.getContext().getAuthentication() == null) {
-
-                GrantedAuthority authority = jwtTokenProvider.getAuthority(jwtToken);
-                Authentication authentication = jwtTokenProvider.getAuthentication(email, authority, request);
+            /* verify token once and take everything we need from its claims */
+            Optional<JwtClaims> claims = jwtTokenProvider.verifyToken(jwtToken);
+            if (claims.isPresent()) {
+                Authentication authentication = jwtTokenProvider.getAuthentication(claims.get(), request);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+                request.setAttribute(TALENT_ID_ATTRIBUTE, claims.get().talentId());
             }
         }
 
         filterChain.doFilter(request, response);
     }
 }
-
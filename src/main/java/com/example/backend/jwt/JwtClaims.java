@@ -0,0 +1,19 @@
+package com.example.backend.jwt;
+
+import java.security.Principal;
+import java.time.Instant;
+
+/**
+ *  Claims of verified jwt-token, used as principal of authenticated talent
+ *
+ * @param subject talent email
+ * @param talentId talent id
+ * @param role talent role
+ * @param expiresAt token expiration
+ * */
+public record JwtClaims(String subject, Long talentId, String role, Instant expiresAt) implements Principal {
+    @Override
+    public String getName() {
+        return subject;
+    }
+}
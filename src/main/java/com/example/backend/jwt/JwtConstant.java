@@ -10,5 +10,6 @@ public class JwtConstant {
     public static final String ROLE_CLAIM = "role";
     public static final String FIRSTNAME_CLAIM = "firstname";
     public static final String TALENT_ID_CLAIM = "talent_id";
+    public static final String TALENT_ID_ATTRIBUTE = "com.example.backend.jwt.talentId";
 
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.example.backend.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  Bounded cache of token verification results keyed by token digest.
+ *  Every entry lives until its own expiration, when the cache is full
+ *  Caffeine evicts the least valuable entries instead of skipping new ones
+ *
+ * @param <V> cached value
+ * */
+class JwtTokenCache<V> {
+    private final Cache<String, Entry<V>> entries;
+
+    JwtTokenCache(int maxSize) {
+        this(maxSize, Ticker.systemTicker());
+    }
+
+    JwtTokenCache(int maxSize, Ticker ticker) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxSize, 0))
+                .ticker(ticker)
+                .expireAfter(new Expiry<String, Entry<V>>() {
+                    @Override
+                    public long expireAfterCreate(String digest, Entry<V> entry, long currentTime) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, Entry<V> entry, long currentTime, long currentDuration) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, Entry<V> entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Get cached value if it is not expired
+     *
+     * @param digest token digest
+     *
+     * @return value or null
+     * */
+    V get(String digest) {
+        Entry<V> entry = entries.getIfPresent(digest);
+        return entry == null ? null : entry.value();
+    }
+
+    /**
+     * Cache value for the given time
+     *
+     * @param digest token digest
+     * @param value cached value
+     * @param ttlMillis time to live, values that are already expired are not cached
+     * */
+    void put(String digest, V value, long ttlMillis) {
+        if (ttlMillis <= 0) {
+            return;
+        }
+        entries.put(digest, new Entry<>(value, TimeUnit.MILLISECONDS.toNanos(ttlMillis)));
+    }
+
+    long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    private record Entry<V>(V value, long ttlNanos) {
+    }
+}
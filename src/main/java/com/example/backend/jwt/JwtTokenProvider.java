@@ -4,22 +4,32 @@ import com.auth0.jwt.JWT;
 import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.example.backend.principal.Role;
 import com.example.backend.talent.model.entity.Talent;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletRequest;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
-import static com.example.backend.jwt.JwtConstant.TOKEN_ISSUE;
 import static com.example.backend.jwt.JwtConstant.*;
 
 /**
@@ -31,125 +41,174 @@ import static com.example.backend.jwt.JwtConstant.*;
  * */
 @Component
 public class JwtTokenProvider {
-    @Value("${jwt.secret}")
-    private String secret;
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+    private final JwtTokenCache<JwtClaims> verifiedTokens;
+    private final JwtTokenCache<Boolean> rejectedTokens;
+    private final long rejectedTokenTtl;
+    private final MeterRegistry meterRegistry;
+    private final Timer signTimer;
+    private final Timer cachedVerifyTimer;
+    private final Timer verifiedVerifyTimer;
+    private final Timer rejectedVerifyTimer;
+
+    @Autowired
+    public JwtTokenProvider(@Value("${jwt.secret}") String secret,
+                            @Value("${jwt.cache.max-size:10000}") int verifiedCacheSize,
+                            @Value("${jwt.cache.rejected-max-size:10000}") int rejectedCacheSize,
+                            @Value("${jwt.cache.rejected-ttl-ms:30000}") long rejectedTokenTtl,
+                            MeterRegistry meterRegistry) {
+        this(secret, verifiedCacheSize, rejectedCacheSize, rejectedTokenTtl, meterRegistry, Ticker.systemTicker());
+    }
+
+    JwtTokenProvider(String secret, int verifiedCacheSize, int rejectedCacheSize, long rejectedTokenTtl,
+                     MeterRegistry meterRegistry, Ticker ticker) {
+        this.algorithm = Algorithm.HMAC512(secret.getBytes(StandardCharsets.UTF_8));
+        this.verifier = JWT.require(algorithm).withIssuer(TOKEN_ISSUE).build();
+        this.verifiedTokens = new JwtTokenCache<>(verifiedCacheSize, ticker);
+        this.rejectedTokens = new JwtTokenCache<>(rejectedCacheSize, ticker);
+        this.rejectedTokenTtl = rejectedTokenTtl;
+        this.meterRegistry = meterRegistry;
+        this.signTimer = timer("jwt.sign", "success");
+        this.cachedVerifyTimer = timer("jwt.verify", "cached");
+        this.verifiedVerifyTimer = timer("jwt.verify", "verified");
+        this.rejectedVerifyTimer = timer("jwt.verify", "rejected");
+    }
 
     /**
-     * Generate JWT-token for authorization our talent
-     * P.S.: In the future when we will have more than 1 role, we should change ROLE_CLAIM and add parameter role
+     * Generate JWT-token for authorization our talent with TALENT role
      *
      * @param talent Talent
      *
      * @return jwt token
      * */
     public String generateJwtToken(Talent talent) {
-        return JWT.create()
+        return generateJwtToken(talent, Role.TALENT);
+    }
+
+    /**
+     * Generate JWT-token for authorization our talent
+     *
+     * @param talent Talent
+     * @param role role written into ROLE_CLAIM
+     *
+     * @return jwt token
+     * */
+    public String generateJwtToken(Talent talent, Role role) {
+        return signTimer.record(() -> JWT.create()
                 .withIssuer(TOKEN_ISSUE)
                 .withAudience()
                 .withIssuedAt(new Date())
                 .withSubject(talent.getEmail())
                 .withClaim(TALENT_ID_CLAIM, talent.getId())
-                .withClaim(ROLE_CLAIM, Role.TALENT.name())
+                .withClaim(ROLE_CLAIM, role.name())
                 .withClaim(FIRSTNAME_CLAIM, talent.getFirstname())
                 .withExpiresAt(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
-                .sign(Algorithm.HMAC512(secret.getBytes()));
+                .sign(algorithm));
     }
 
     /**
      * Create authentication for filter authentication
      *
-     * @param email Talent email
-     * @param authority Talent authority
+     * @param claims Verified token claims
      * @param request Request for filter
      *
-     * @return jwt token
+     * @return authentication with claims as principal
      * */
-    public Authentication getAuthentication(String email, GrantedAuthority authority, HttpServletRequest request) {
+    public Authentication getAuthentication(JwtClaims claims, HttpServletRequest request) {
         UsernamePasswordAuthenticationToken authenticationToken
-                = new UsernamePasswordAuthenticationToken(email, null, List.of(authority));
+                = new UsernamePasswordAuthenticationToken(claims, null, List.of(new SimpleGrantedAuthority(claims.role())));
 
         authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
         return authenticationToken;
     }
 
     /**
-     * Check if jwt-token is valid
+     * Verify jwt-token once and parse its claims.
+     * Results are cached by token digest: verified tokens until their expiration,
+     * rejected tokens for a short period, so repeated tokens skip signature check
      *
-     * @param email Talent email
      * @param token JWT-Token
      *
-     * @return is expired token
+     * @return claims or empty if token is not valid
      * */
-    public boolean isTokenValid(String email, String token) {
-        JWTVerifier verifier = getVerifier();
-        return StringUtils.isNotEmpty(email) &&
-                !isTokenExpired(verifier, token) &&
-                getSubject(token).equals(email);
-    }
+    public Optional<JwtClaims> verifyToken(String token) {
+        long startedAt = System.nanoTime();
+        String digest = digest(token);
 
-    /**
-     * Get subject(email) from jwt-token
-     *
-     * @param token JWT-Token
-     *
-     * @return email
-     * */
-    public String getSubject(String token) {
-        JWTVerifier verifier = getVerifier();
-        return verifier.verify(token).getSubject();
+        JwtClaims cachedClaims = verifiedTokens.get(digest);
+        if (cachedClaims != null) {
+            cachedVerifyTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return Optional.of(cachedClaims);
+        }
+        if (rejectedTokens.get(digest) != null) {
+            rejection("cached");
+            rejectedVerifyTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return Optional.empty();
+        }
+
+        JwtClaims claims = parseClaims(token);
+        if (claims == null) {
+            rejectedTokens.put(digest, Boolean.TRUE, rejectedTokenTtl);
+            rejectedVerifyTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return Optional.empty();
+        }
+        verifiedTokens.put(digest, claims, claims.expiresAt().toEpochMilli() - System.currentTimeMillis());
+        verifiedVerifyTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return Optional.of(claims);
     }
 
     /**
-     * Check if jwt-token is expired
+     * Verify signature, issuer and expiration of jwt-token and read its claims
      *
-     * @param verifier jwt-verifier
      * @param token JWT-Token
      *
-     * @return is expired token
+     * @return claims or null if token is not valid
      * */
-    private boolean isTokenExpired(JWTVerifier verifier, String token) {
-        Date expiration = verifier.verify(token).getExpiresAt();
-        return expiration.before(new Date());
+    private JwtClaims parseClaims(String token) {
+        try {
+            DecodedJWT decodedJWT = verifier.verify(token);
+            String subject = decodedJWT.getSubject();
+            String role = decodedJWT.getClaim(ROLE_CLAIM).asString();
+            Date expiresAt = decodedJWT.getExpiresAt();
+            if (StringUtils.isEmpty(subject) || StringUtils.isEmpty(role) || expiresAt == null) {
+                rejection("MissingClaim");
+                return null;
+            }
+            return new JwtClaims(subject, decodedJWT.getClaim(TALENT_ID_CLAIM).asLong(), role, expiresAt.toInstant());
+        } catch (JWTVerificationException e) {
+            rejection(e.getClass().getSimpleName());
+            return null;
+        }
     }
 
-    /**
-     * Get authority(role) from jwt-token
-     *
-     * @param token JWT-Token
-     *
-     * @return authority
-     * */
-    public GrantedAuthority getAuthority(String token) {
-        return new SimpleGrantedAuthority(getRoleFromToken(token));
+    private Timer timer(String name, String outcome) {
+        return Timer.builder(name)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
+    private void rejection(String reason) {
+        Counter.builder("jwt.rejections")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
 
     /**
-     * Parse role from jwt-token
+     * Digest of jwt-token used as cache key, so raw tokens are not kept in memory
      *
      * @param token JWT-Token
      *
-     * @return role
-     * */
-    private String getRoleFromToken(String token) {
-        JWTVerifier verifier = getVerifier();
-        return verifier.verify(token).getClaim(ROLE_CLAIM).asString();
-    }
-
-    /**
-     * Get verifier for parsing jwt-token
-     *
-     * @return jwt-verifier
+     * @return base64 encoded SHA-256 of token
      * */
-    private JWTVerifier getVerifier() {
-        JWTVerifier verifier;
+    private static String digest(String token) {
         try {
-            Algorithm algorithm = Algorithm.HMAC512(secret);
-            verifier = JWT.require(algorithm).withIssuer(TOKEN_ISSUE).build();
-        } catch (JWTVerificationException e) {
-            throw new JWTVerificationException(TOKEN_NOT_VERIFIED_MESSAGE);
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
-        return verifier;
     }
 }
-
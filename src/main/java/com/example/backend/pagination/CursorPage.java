@@ -0,0 +1,23 @@
+package com.example.backend.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ *  Page of a keyset (cursor) listing. Unlike {@link PageWithMetadata} it carries
+ *  no total count, only opaque cursors for the neighbouring pages
+ *
+ * @param <T> type of page content
+ * */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private String nextCursor;
+    private String prevCursor;
+    private boolean hasNext;
+}
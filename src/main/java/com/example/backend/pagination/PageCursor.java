@@ -0,0 +1,61 @@
+package com.example.backend.pagination;
+
+import com.example.backend.pagination.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static com.example.backend.pagination.PaginationConstant.INVALID_CURSOR_MESSAGE;
+
+/**
+ *  Encoder/decoder of opaque cursor tokens used by keyset pagination
+ *
+ * */
+public final class PageCursor {
+    private static final String ID_PREFIX = "id:";
+
+    private PageCursor() {
+    }
+
+    /**
+     * Encode id of the last seen row into opaque cursor
+     *
+     * @param id row id
+     *
+     * @return cursor token
+     * */
+    public static String encodeId(long id) {
+        return encode(ID_PREFIX + id);
+    }
+
+    /**
+     * Decode id from cursor token
+     *
+     * @param cursor cursor token
+     *
+     * @return row id
+     * */
+    public static long decodeId(String cursor) {
+        String raw = decode(cursor);
+        if (!raw.startsWith(ID_PREFIX)) {
+            throw new InvalidCursorException(INVALID_CURSOR_MESSAGE);
+        }
+        try {
+            return Long.parseLong(raw.substring(ID_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException(INVALID_CURSOR_MESSAGE);
+        }
+    }
+
+    public static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String decode(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(INVALID_CURSOR_MESSAGE);
+        }
+    }
+}
@@ -2,10 +2,12 @@ package com.example.backend.pagination;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 @Getter
 @AllArgsConstructor
+@NoArgsConstructor
 public class PageWithMetadata<T> {
     private List<T> content;
     private int totalPages;
@@ -0,0 +1,6 @@
+package com.example.backend.pagination;
+
+public class PaginationConstant {
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final String INVALID_CURSOR_MESSAGE = "The cursor cannot be parsed";
+}
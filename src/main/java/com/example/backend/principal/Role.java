@@ -1,5 +1,6 @@
 package com.example.backend.principal;
 
 public enum Role {
-    TALENT
+    TALENT,
+    ADMIN
 }
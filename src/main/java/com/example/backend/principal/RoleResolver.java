@@ -0,0 +1,30 @@
+package com.example.backend.principal;
+
+import com.example.backend.talent.model.entity.Talent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ *  Role of talent by email. Admins are listed in configuration, every other talent has TALENT role.
+ *  Role is written into the token on login, so a talent added to the list gets ADMIN role after next login
+ *
+ * */
+@Component
+public class RoleResolver {
+    private final Set<String> adminEmails;
+
+    public RoleResolver(@Value("${security.admin-emails:}") String adminEmails) {
+        this.adminEmails = Arrays.stream(adminEmails.split(","))
+                .map(Talent::normalizeEmail)
+                .filter(email -> !email.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public Role resolve(String email) {
+        return email != null && adminEmails.contains(Talent.normalizeEmail(email)) ? Role.ADMIN : Role.TALENT;
+    }
+}
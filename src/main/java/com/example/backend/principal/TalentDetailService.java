@@ -14,12 +14,13 @@ import org.springframework.stereotype.Service;
 public class TalentDetailService implements UserDetailsService {
 
     private final TalentRepository talentRepository;
+    private final RoleResolver roleResolver;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         Talent talent = talentRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("Talent not found by email [ " + email + "]"));
 
-        return new TalentPrincipal(talent);
+        return new TalentPrincipal(talent, roleResolver.resolve(talent.getEmail()));
     }
 }
\ No newline at end of file
@@ -12,15 +12,17 @@ public class TalentPrincipal implements UserDetails {
 
     private final String email;
     private final String password;
+    private final Role role;
 
-    public TalentPrincipal(Talent talent) {
+    public TalentPrincipal(Talent talent, Role role) {
         this.email = talent.getEmail();
         this.password = talent.getPassword();
+        this.role = role;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority(Role.TALENT.name()));
+        return List.of(new SimpleGrantedAuthority(role.name()));
     }
 
     @Override
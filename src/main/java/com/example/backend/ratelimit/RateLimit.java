@@ -0,0 +1,49 @@
+package com.example.backend.ratelimit;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+
+/**
+ *  Limit of one token bucket: up to capacity requests in a burst, refilled evenly over the period
+ *
+ * @param capacity size of bucket
+ * @param period time to refill an empty bucket
+ * */
+public record RateLimit(int capacity, Duration period) {
+
+    public RateLimit {
+        if (capacity <= 0 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Rate limit should have positive capacity and period");
+        }
+    }
+
+    /**
+     * Parse limit written as capacity/period, for example 10/PT1M
+     *
+     * @param value limit, blank value means no limit
+     *
+     * @return limit or null if value is blank
+     * */
+    public static RateLimit parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        int separator = value.indexOf('/');
+        try {
+            if (separator < 0) {
+                throw new IllegalArgumentException("Rate limit should be written as capacity/period: " + value);
+            }
+            return new RateLimit(Integer.parseInt(value.substring(0, separator).trim()),
+                    Duration.parse(value.substring(separator + 1).trim()));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Rate limit should be written as capacity/period: " + value, e);
+        }
+    }
+
+    /**
+     * @return time between two tokens in nanoseconds
+     * */
+    public long intervalNanos() {
+        return Math.max(1, period.toNanos() / capacity);
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.backend.ratelimit;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  Filter rejecting requests over the token bucket limits of their route with 429 and Retry-After.
+ *  It runs before authentication, so rejected requests never reach the database or password hashing.
+ *  Email is read from the head of JSON body, the body is replayed to the rest of the chain.
+ *  Address is the remote address resolved by Tomcat from X-Forwarded-For of trusted proxies
+ *  (server.tomcat.remoteip.internal-proxies), so all clients behind the router do not share one bucket
+ *
+ * */
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final int MAX_EMAIL_BODY_BYTES = 8 * 1024;
+    private static final String EMAIL_FIELD = "email";
+
+    private final RateLimiter rateLimiter;
+    private final List<RateLimitRule> rules;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final Map<String, Counter> rejections = new HashMap<>();
+
+    public RateLimitFilter(RateLimiter rateLimiter, List<RateLimitRule> rules, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.rules = List.copyOf(rules);
+        for (RateLimitRule rule : this.rules) {
+            for (String key : List.of("ip", "email")) {
+                rejections.put(rule.name() + ":" + key, Counter.builder("rate.limit.rejections")
+                        .tag("route", rule.name())
+                        .tag("key", key)
+                        .register(meterRegistry));
+            }
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RateLimitRule rule = findRule(request);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (rule.perIp() != null
+                && reject(response, rule, "ip", request.getRemoteAddr(), rule.perIp())) {
+            return;
+        }
+
+        if (rule.perEmail() != null) {
+            BufferedBodyRequest bufferedRequest = new BufferedBodyRequest(request, MAX_EMAIL_BODY_BYTES);
+            request = bufferedRequest;
+            String email = readEmail(bufferedRequest.getHead());
+            if (email != null && reject(response, rule, "email", email, rule.perEmail())) {
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Rules are matched against the decoded path, the same one handler mapping sees,
+     * so an encoded path like %6cogin cannot bypass the limit
+     * */
+    private RateLimitRule findRule(HttpServletRequest request) {
+        String path = UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+        for (RateLimitRule rule : rules) {
+            if (rule.matches(request.getMethod(), path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private boolean reject(HttpServletResponse response, RateLimitRule rule,
+                           String keyType, String key, RateLimit limit) throws IOException {
+        long waitNanos = rateLimiter.tryAcquire(rule.name() + ":" + keyType + ":" + key, limit);
+        if (waitNanos == 0) {
+            return false;
+        }
+        rejections.get(rule.name() + ":" + keyType).increment();
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Too many requests, try again later");
+        return true;
+    }
+
+    /**
+     * Find top-level email field of JSON body
+     *
+     * @param body head of request body
+     *
+     * @return email in lower case or null if it was not found
+     * */
+    private String readEmail(byte[] body) {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if (EMAIL_FIELD.equals(field)) {
+                    return parser.currentToken() == JsonToken.VALUE_STRING
+                            ? parser.getText().trim().toLowerCase(Locale.ROOT) : null;
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            /* malformed or cut body, it is rejected by request validation later */
+            return null;
+        }
+    }
+
+    /**
+     * Request which reads the head of body ahead and serves it again before the rest of the original stream
+     * */
+    private static class BufferedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] head;
+        private final ServletInputStream inputStream;
+        private BufferedReader reader;
+
+        BufferedBodyRequest(HttpServletRequest request, int maxHeadBytes) throws IOException {
+            super(request);
+            ServletInputStream original = request.getInputStream();
+            this.head = original.readNBytes(maxHeadBytes);
+            this.inputStream = new ReplayingInputStream(new ByteArrayInputStream(head), original);
+        }
+
+        byte[] getHead() {
+            return head;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws UnsupportedEncodingException {
+            if (reader == null) {
+                String encoding = getCharacterEncoding();
+                reader = new BufferedReader(new InputStreamReader(inputStream,
+                        encoding != null ? encoding : StandardCharsets.UTF_8.name()));
+            }
+            return reader;
+        }
+    }
+
+    private static class ReplayingInputStream extends ServletInputStream {
+        private final ByteArrayInputStream head;
+        private final ServletInputStream rest;
+
+        ReplayingInputStream(ByteArrayInputStream head, ServletInputStream rest) {
+            this.head = head;
+            this.rest = rest;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = head.read();
+            return value >= 0 ? value : rest.read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            int read = head.read(buffer, offset, length);
+            return read > 0 ? read : rest.read(buffer, offset, length);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return head.available() == 0 && rest.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return head.available() > 0 || rest.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            rest.setReadListener(readListener);
+        }
+    }
+}
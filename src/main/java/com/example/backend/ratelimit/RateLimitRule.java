@@ -0,0 +1,17 @@
+package com.example.backend.ratelimit;
+
+/**
+ *  Rate limits of one route
+ *
+ * @param name name of route, used in bucket keys and metrics
+ * @param method HTTP method of route
+ * @param path request path of route
+ * @param perIp limit per client address, null if there is no such limit
+ * @param perEmail limit per email of JSON body, null if there is no such limit
+ * */
+public record RateLimitRule(String name, String method, String path, RateLimit perIp, RateLimit perEmail) {
+
+    public boolean matches(String requestMethod, String requestPath) {
+        return method.equalsIgnoreCase(requestMethod) && path.equals(requestPath);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.backend.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ *  Token buckets of rate limited clients.
+ *  Buckets live in a bounded Caffeine map, a bucket expires once it was idle long enough to refill,
+ *  so expiration never lets a client through earlier than its bucket would. When the map is full
+ *  Caffeine evicts buckets by size before they expire, which resets their limits,
+ *  so max buckets should be well above the number of clients active within a refill period
+ *
+ * */
+public class RateLimiter {
+    private final Cache<String, TokenBucket> buckets;
+
+    public RateLimiter(long maxBuckets) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfter(new Expiry<String, TokenBucket>() {
+                    @Override
+                    public long expireAfterCreate(String key, TokenBucket bucket, long currentTime) {
+                        return bucket.getRefillNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, TokenBucket bucket, long currentTime, long currentDuration) {
+                        return bucket.getRefillNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, TokenBucket bucket, long currentTime, long currentDuration) {
+                        return bucket.getRefillNanos();
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Take one token from the bucket of key
+     *
+     * @param key client key, including route and kind of key
+     * @param limit limit of bucket
+     *
+     * @return 0 if request is allowed, otherwise nanoseconds until the next token
+     * */
+    public long tryAcquire(String key, RateLimit limit) {
+        long now = System.nanoTime();
+        return buckets.get(key, k -> new TokenBucket(limit, now)).tryAcquire(now);
+    }
+
+    public long getBucketCount() {
+        return buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.backend.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ *  Lock-free token bucket kept as a single theoretical arrival time (GCRA).
+ *  Bucket is full when arrival time is in the past, every accepted request moves it by one interval,
+ *  and request is rejected when arrival time would be more than a full bucket ahead of now
+ *
+ * */
+public class TokenBucket {
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong arrivalTime;
+
+    public TokenBucket(RateLimit limit, long nowNanos) {
+        this.intervalNanos = limit.intervalNanos();
+        this.burstNanos = intervalNanos * limit.capacity();
+        this.arrivalTime = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Take one token
+     *
+     * @param nowNanos current time of {@link System#nanoTime()}
+     *
+     * @return 0 if token was taken, otherwise nanoseconds until the next token
+     * */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = arrivalTime.get();
+            long next = Math.max(current - nowNanos, 0) + nowNanos + intervalNanos;
+            long waitNanos = next - nowNanos - burstNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (arrivalTime.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * @return nanoseconds of idleness after which the bucket is full again and carries no state
+     * */
+    public long getRefillNanos() {
+        return burstNanos;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.backend.talent.cache;
+
+import com.example.backend.talent.event.TalentChangeSequence;
+import com.example.backend.talent.event.TalentChangedEvent;
+import com.example.backend.talent.event.TalentsImportedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ *  Cache of the first listing pages as ready to send JSON bytes, with gzip variant.
+ *  Every entry belongs to a value of the change sequence, so a page read before a commit
+ *  is never served after it, even when it was put into the cache after invalidation.
+ *  Changes committed on other nodes are not seen by the sequence, entries expire after ttl to bound that staleness
+ *
+ * */
+@Component
+public class TalentListingPageCache {
+    private final Cache<Key, SerializedPage> cache;
+    private final ObjectMapper objectMapper;
+    private final TalentChangeSequence changeSequence;
+    private final int cachedPages;
+
+    public TalentListingPageCache(ObjectMapper objectMapper,
+                                  TalentChangeSequence changeSequence,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${talent.cache.listing.pages:3}") int cachedPages,
+                                  @Value("${talent.cache.listing.max-size:64}") long maxSize,
+                                  @Value("${talent.cache.listing.ttl:PT10S}") Duration ttl) {
+        this.objectMapper = objectMapper;
+        this.changeSequence = changeSequence;
+        this.cachedPages = cachedPages;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "talent.listing");
+    }
+
+    public boolean isCached(int page) {
+        return page >= 0 && page < cachedPages;
+    }
+
+    /**
+     * Get serialized page from cache or build it, only one loader runs for the same page at a time
+     *
+     * @param page page number, should be cached according to {@link #isCached(int)}
+     * @param size page size after limiting
+     * @param loader loader of page body
+     *
+     * @return serialized page
+     * */
+    public SerializedPage get(int page, int size, Supplier<?> loader) {
+        /* sequence is read before loading, so a change committed during the load makes this entry unreachable */
+        Key key = new Key(page, size, changeSequence.getValue());
+        return cache.get(key, k -> serialize(loader.get()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTalentChanged(TalentChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTalentsImported(TalentsImportedEvent event) {
+        cache.invalidateAll();
+    }
+
+    private SerializedPage serialize(Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 32);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(json);
+            }
+            return new SerializedPage(json, compressed.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Key(int page, int size, long sequence) {
+    }
+
+    /**
+     * Listing page serialized to UTF-8 JSON
+     *
+     * @param json plain body
+     * @param gzip the same body compressed with gzip
+     * */
+    public record SerializedPage(byte[] json, byte[] gzip) {
+    }
+}
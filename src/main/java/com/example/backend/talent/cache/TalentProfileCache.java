@@ -0,0 +1,111 @@
+package com.example.backend.talent.cache;
+
+import com.example.backend.talent.event.TalentChangedEvent;
+import com.example.backend.talent.model.response.TalentProfile;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ *  Bounded cache of public talent profiles.
+ *  Caffeine evicts with W-TinyLFU, so a few hot profiles stay cached while one-off views do not push them out.
+ *  Concurrent misses for the same id wait for a single load. Entries are dropped right after
+ *  the transaction of update or delete commits, before the response of that request is sent
+ *
+ * */
+@Component
+public class TalentProfileCache {
+    private final Cache<Long, TalentProfile> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public TalentProfileCache(MeterRegistry meterRegistry,
+                              @Value("${talent.cache.profile.max-size:10000}") long maxSize,
+                              @Value("${talent.cache.profile.ttl:PT5M}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "talent.profile");
+    }
+
+    /**
+     * Get public profile from cache or load it, only one loader runs for the same id at a time
+     *
+     * @param id talent id
+     * @param loader loader of profile, exceptions are passed to caller and nothing is cached
+     *
+     * @return public profile
+     * */
+    public TalentProfile get(Long id, Function<Long, TalentProfile> loader) {
+        return cache.get(id, loader);
+    }
+
+    /**
+     * Get public profiles from cache, all missing ones are loaded by a single call of loader.
+     * Loaded profiles are cached only if no profile was invalidated while the loader ran,
+     * otherwise one of them may have been read before an update committed and would stay stale until expiry
+     *
+     * @param ids talent ids
+     * @param loader loader of missing profiles, ids it does not return are not cached
+     *
+     * @return found profiles by id
+     * */
+    public Map<Long, TalentProfile> getAll(Collection<Long> ids,
+                                           Function<Set<? extends Long>, Map<Long, TalentProfile>> loader) {
+        Map<Long, TalentProfile> profiles = new HashMap<>(cache.getAllPresent(ids));
+        Set<Long> missingIds = new LinkedHashSet<>(ids);
+        missingIds.removeAll(profiles.keySet());
+        if (missingIds.isEmpty()) {
+            return profiles;
+        }
+
+        long invalidationsBeforeLoad = invalidations.get();
+        loader.apply(missingIds).forEach((id, profile) -> {
+            if (!missingIds.contains(id)) {
+                return;
+            }
+            /* invalidation counter is checked under the entry lock, so it can not change between check and put */
+            TalentProfile cachedProfile = cache.asMap().compute(id, (key, current) -> current != null ? current
+                    : invalidations.get() == invalidationsBeforeLoad ? profile : null);
+            profiles.put(id, cachedProfile != null ? cachedProfile : profile);
+        });
+        return profiles;
+    }
+
+    /**
+     * Get public profile only if it is cached
+     *
+     * @param id talent id
+     *
+     * @return cached profile or null
+     * */
+    public TalentProfile getIfPresent(Long id) {
+        return cache.getIfPresent(id);
+    }
+
+    public void invalidate(Long id) {
+        invalidations.incrementAndGet();
+        cache.invalidate(id);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTalentChanged(TalentChangedEvent event) {
+        if (event.changeType() != TalentChangedEvent.ChangeType.CREATED) {
+            invalidate(event.talentId());
+        }
+    }
+}
@@ -1,41 +1,148 @@
 package com.example.backend.talent.controller;
 
 
+import com.example.backend.pagination.CursorPage;
 import com.example.backend.pagination.PageWithMetadata;
+import com.example.backend.talent.cache.TalentListingPageCache.SerializedPage;
 import com.example.backend.talent.model.request.TalentEdit;
 import com.example.backend.talent.model.request.TalentLogin;
 import com.example.backend.talent.model.request.TalentRegistration;
+import com.example.backend.talent.model.response.EmailAvailability;
 import com.example.backend.talent.model.response.TalentGeneralInfo;
 import com.example.backend.talent.model.response.TalentOwnProfile;
 import com.example.backend.talent.model.response.TalentProfile;
+import com.example.backend.talent.model.response.TalentProfileEntry;
 import com.example.backend.talent.service.TalentService;
+import com.example.backend.utils.HttpUtils;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 
 @CrossOrigin(origins = "http://localhost:3000")
 @RestController
+@Validated
 @RequiredArgsConstructor
 @RequestMapping("api/v1/talents")
 public class TalentController {
+    private static final CacheControl PUBLIC_CACHE_CONTROL = CacheControl.noCache().cachePublic();
+    private static final CacheControl PRIVATE_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+    private static final MediaType SMILE_MEDIA_TYPE = new MediaType("application", "x-jackson-smile");
+
     private final TalentService talentService;
     @GetMapping
-    @ResponseStatus(HttpStatus.OK)
     public PageWithMetadata<TalentGeneralInfo> getAllTalents(@RequestParam(defaultValue = "0") int page,
-                                                             @RequestParam(defaultValue = "9") int size){
+                                                             @RequestParam(defaultValue = "9") int size,
+                                                             ServletWebRequest webRequest) throws IOException {
+        if (isNotModified(webRequest, talentService.getListingETag(), PUBLIC_CACHE_CONTROL)) {
+            return null;
+        }
+        /* first pages are kept serialized, other representations go through message converters */
+        SerializedPage serializedPage = acceptsJson(webRequest) ? talentService.getSerializedTalentsPage(page, size) : null;
+        if (serializedPage != null) {
+            writeSerializedPage(webRequest, serializedPage);
+            return null;
+        }
         return talentService.getAllTalents(page, size);
     }
-    @GetMapping("/export")
-    public ResponseEntity<String> exportUsersToFile() {
-        talentService.exportUsersToFile();
-        return ResponseEntity.ok("Users exported successfully.");
+
+    @GetMapping(params = {"fields", "!after", "!before"})
+    public PageWithMetadata<Map<String, Object>> getAllTalentsFields(@RequestParam(defaultValue = "0") int page,
+                                                                     @RequestParam(defaultValue = "9") int size,
+                                                                     @RequestParam String fields,
+                                                                     ServletWebRequest webRequest) {
+        if (isNotModified(webRequest, talentService.getListingETag(), PUBLIC_CACHE_CONTROL)) {
+            return null;
+        }
+        return talentService.getAllTalents(page, size, fields);
+    }
+
+    @GetMapping(params = "after")
+    public CursorPage<TalentGeneralInfo> getTalentsAfter(@RequestParam String after,
+                                                         @RequestParam(defaultValue = "9") int size,
+                                                         ServletWebRequest webRequest){
+        if (isNotModified(webRequest, talentService.getListingETag(), PUBLIC_CACHE_CONTROL)) {
+            return null;
+        }
+        return talentService.getTalentsAfter(after, size);
     }
-    @GetMapping("/{id}")
+
+    @GetMapping(params = "before")
+    public CursorPage<TalentGeneralInfo> getTalentsBefore(@RequestParam String before,
+                                                          @RequestParam(defaultValue = "9") int size,
+                                                          ServletWebRequest webRequest){
+        if (isNotModified(webRequest, talentService.getListingETag(), PUBLIC_CACHE_CONTROL)) {
+            return null;
+        }
+        return talentService.getTalentsBefore(before, size);
+    }
+    @GetMapping(value = "/search", params = "skills")
     @ResponseStatus(HttpStatus.OK)
-    public TalentProfile getTalentProfile(@PathVariable Long id){return talentService.getTalentProfileById(id);}
+    public PageWithMetadata<TalentGeneralInfo> searchTalentsBySkills(@RequestParam Set<String> skills,
+                                                                     @RequestParam(defaultValue = "any") String mode,
+                                                                     @RequestParam(defaultValue = "0") int page,
+                                                                     @RequestParam(defaultValue = "9") int size){
+        return talentService.searchTalentsBySkills(skills, mode, page, size);
+    }
+
+    @GetMapping(value = "/search", params = "q")
+    @ResponseStatus(HttpStatus.OK)
+    public CursorPage<TalentGeneralInfo> searchTalentsByText(@RequestParam String q,
+                                                             @RequestParam(required = false) String after,
+                                                             @RequestParam(defaultValue = "9") int size){
+        return talentService.searchTalentsByText(q, after, size);
+    }
+    @GetMapping("/batch")
+    @ResponseStatus(HttpStatus.OK)
+    public List<TalentProfileEntry> getTalentProfiles(@RequestParam List<Long> ids){
+        return talentService.getTalentProfilesByIds(ids);
+    }
+
+    @GetMapping("/email-availability")
+    @ResponseStatus(HttpStatus.OK)
+    public EmailAvailability checkEmailAvailability(@RequestParam
+                                                    @NotBlank(message = "Email should not be blank")
+                                                    @Email(message = "Email should be valid") String email){
+        return talentService.checkEmailAvailability(email);
+    }
+
+    @GetMapping("/{id}")
+    public TalentProfile getTalentProfile(@PathVariable Long id, ServletWebRequest webRequest){
+        if (isProfileNotModified(id, webRequest)) {
+            return null;
+        }
+        return talentService.getTalentProfileById(id);
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    public Map<String, Object> getTalentProfileFields(@PathVariable Long id,
+                                                      @RequestParam String fields,
+                                                      ServletWebRequest webRequest){
+        if (isProfileNotModified(id, webRequest)) {
+            return null;
+        }
+        return talentService.getTalentProfileById(id, fields);
+    }
 
     @PostMapping
     public ResponseEntity<?> registerTalent(@Valid @RequestBody TalentRegistration talent){
@@ -60,4 +167,92 @@ public class TalentController {
         talentService.deleteTalent(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    /**
+     * Set caching headers and check If-None-Match before response body is built
+     *
+     * @param webRequest current request
+     * @param eTag current ETag of resource, null if it is unknown
+     * @param cacheControl Cache-Control of response
+     *
+     * @return true if client has current version and response was set to 304
+     * */
+    private static boolean isNotModified(ServletWebRequest webRequest, String eTag, CacheControl cacheControl) {
+        webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        webRequest.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        return eTag != null && webRequest.checkNotModified(eTag + representationSuffix(webRequest));
+    }
+
+    /* profile differs for owner, so it is cached only privately when request is authorized */
+    private boolean isProfileNotModified(Long id, ServletWebRequest webRequest) {
+        webRequest.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+        CacheControl cacheControl = webRequest.getHeader(HttpHeaders.AUTHORIZATION) == null
+                ? PUBLIC_CACHE_CONTROL : PRIVATE_CACHE_CONTROL;
+        return isNotModified(webRequest, talentService.getTalentProfileETag(id), cacheControl);
+    }
+
+    /* binary representations have different bytes, so they get their own ETags */
+    private static String representationSuffix(ServletWebRequest webRequest) {
+        MediaType mediaType = preferredMediaType(webRequest);
+        if (mediaType == null) {
+            return "";
+        } else if (MediaType.APPLICATION_CBOR.includes(mediaType)) {
+            return "-cbor";
+        } else if (SMILE_MEDIA_TYPE.includes(mediaType)) {
+            return "-smile";
+        }
+        return "";
+    }
+
+    private static void writeSerializedPage(ServletWebRequest webRequest, SerializedPage page) throws IOException {
+        HttpServletResponse response = webRequest.getResponse();
+        byte[] body = page.json();
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (HttpUtils.acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            body = page.gzip();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Constraint violations of request parameters are answered with 400 like invalid request bodies
+     * */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public void handleConstraintViolation(ConstraintViolationException e, HttpServletResponse response) throws IOException {
+        response.sendError(HttpStatus.BAD_REQUEST.value(), e.getConstraintViolations().stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", ")));
+    }
+
+    private static boolean acceptsJson(ServletWebRequest webRequest) {
+        MediaType mediaType = preferredMediaType(webRequest);
+        return mediaType != null && mediaType.isCompatibleWith(MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * Find the media type with the highest quality in Accept header
+     *
+     * @param webRequest current request
+     *
+     * @return preferred media type, JSON if there is no Accept header, null if it is malformed or refuses everything
+     * */
+    private static MediaType preferredMediaType(ServletWebRequest webRequest) {
+        String accept = webRequest.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        try {
+            List<MediaType> mediaTypes = MediaType.parseMediaTypes(accept);
+            return mediaTypes.stream()
+                    .max(Comparator.comparingDouble(MediaType::getQualityValue))
+                    .filter(mediaType -> mediaType.getQualityValue() > 0)
+                    .orElse(null);
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,144 @@
+package com.example.backend.talent.controller;
+
+import com.example.backend.talent.export.*;
+import com.example.backend.utils.HttpUtils;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.*;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+
+@CrossOrigin(origins = "http://localhost:3000")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("api/v1/talents/export")
+public class TalentExportController {
+    private static final String SENDFILE_SUPPORTED_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
+    private final TalentExportService talentExportService;
+    private final ExportJobService exportJobService;
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportTalents(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding)
+            throws HttpMediaTypeNotAcceptableException {
+        ExportFormat format = ExportFormat.fromAcceptHeader(accept);
+        boolean gzip = HttpUtils.acceptsGzip(acceptEncoding);
+
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, 8192, true);
+                talentExportService.export(gzipOutputStream, format);
+                gzipOutputStream.finish();
+            } else {
+                talentExportService.export(outputStream, format);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("talents." + format.getExtension()).build().toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @PostMapping("/jobs")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ExportJobResponse startExportJob(@RequestParam(defaultValue = "xml") String format) throws IOException {
+        return ExportJobResponse.from(exportJobService.startJob(ExportFormat.fromExtension(format)));
+    }
+
+    @GetMapping("/jobs/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    public ExportJobResponse getExportJob(@PathVariable String id) {
+        return ExportJobResponse.from(exportJobService.getJob(id));
+    }
+
+    /**
+     * Download file of completed export job, single byte range is supported for resumable downloads.
+     * File is sent with sendfile when the connector supports it, otherwise with FileChannel.transferTo.
+     * While the job is not finished its status is returned with 202, a failed job is returned with 409
+     *
+     * @return status of job without file, null when the file is already written into response
+     * */
+    @GetMapping("/jobs/{id}/file")
+    public ResponseEntity<ExportJobResponse> downloadExportJobFile(@PathVariable String id,
+                                                                   HttpServletRequest request,
+                                                                   HttpServletResponse response) throws IOException {
+        ExportJob job = exportJobService.getJob(id);
+        if (job.status() != ExportJobStatus.COMPLETED) {
+            HttpStatus status = job.status().isFinished() ? HttpStatus.CONFLICT : HttpStatus.ACCEPTED;
+            return ResponseEntity.status(status).body(ExportJobResponse.from(job));
+        }
+        Path file = exportJobService.getCompletedFile(job);
+        long length = Files.size(file);
+
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return null;
+            }
+        }
+        long count = end - start + 1;
+
+        response.setContentType(job.format().getMediaType().toString());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("talents-" + job.id() + "." + job.format().getExtension()).build().toString());
+        response.setContentLengthLong(count);
+        if (count < length) {
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTRIBUTE))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTRIBUTE, start);
+            request.setAttribute(SENDFILE_END_ATTRIBUTE, end + 1);
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+        return null;
+    }
+}
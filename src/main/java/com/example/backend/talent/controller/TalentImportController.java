@@ -0,0 +1,30 @@
+package com.example.backend.talent.controller;
+
+import com.example.backend.talent.importer.ImportFormat;
+import com.example.backend.talent.importer.ImportReport;
+import com.example.backend.talent.importer.TalentImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+
+@CrossOrigin(origins = "http://localhost:3000")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("api/v1/talents/import")
+public class TalentImportController {
+    private final TalentImportService talentImportService;
+
+    @PostMapping(consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    @ResponseStatus(HttpStatus.OK)
+    public ImportReport importTalents(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                      InputStream body) throws IOException, HttpMediaTypeNotSupportedException {
+        return talentImportService.importTalents(body, ImportFormat.fromContentType(contentType));
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.backend.talent.controller;
+
+import com.example.backend.pagination.CursorPage;
+import com.example.backend.pagination.PageWithMetadata;
+import com.example.backend.talent.model.response.TalentGeneralInfo;
+import com.example.backend.talent.model.response.TalentProfile;
+import com.example.backend.talent.service.TalentReactiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+/**
+ *  Read-only talent API served asynchronously, request threads are not held while talents are read
+ *
+ * */
+@CrossOrigin(origins = "http://localhost:3000")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("api/v2/talents")
+public class TalentReactiveController {
+    private final TalentReactiveService talentReactiveService;
+
+    @GetMapping
+    public Mono<PageWithMetadata<TalentGeneralInfo>> getAllTalents(@RequestParam(defaultValue = "0") int page,
+                                                                   @RequestParam(defaultValue = "9") int size){
+        return talentReactiveService.getAllTalents(page, size);
+    }
+
+    @GetMapping(params = "after")
+    public Mono<CursorPage<TalentGeneralInfo>> getTalentsAfter(@RequestParam String after,
+                                                               @RequestParam(defaultValue = "9") int size){
+        return talentReactiveService.getTalentsAfter(after, size);
+    }
+
+    @GetMapping(params = "before")
+    public Mono<CursorPage<TalentGeneralInfo>> getTalentsBefore(@RequestParam String before,
+                                                                @RequestParam(defaultValue = "9") int size){
+        return talentReactiveService.getTalentsBefore(before, size);
+    }
+
+    @GetMapping(value = "/search", params = "skills")
+    public Mono<PageWithMetadata<TalentGeneralInfo>> searchTalentsBySkills(@RequestParam Set<String> skills,
+                                                                           @RequestParam(defaultValue = "any") String mode,
+                                                                           @RequestParam(defaultValue = "0") int page,
+                                                                           @RequestParam(defaultValue = "9") int size){
+        return talentReactiveService.searchTalentsBySkills(skills, mode, page, size);
+    }
+
+    @GetMapping(value = "/search", params = "q")
+    public Mono<CursorPage<TalentGeneralInfo>> searchTalentsByText(@RequestParam String q,
+                                                                   @RequestParam(required = false) String after,
+                                                                   @RequestParam(defaultValue = "9") int size){
+        return talentReactiveService.searchTalentsByText(q, after, size);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<TalentProfile> getTalentProfile(@PathVariable Long id){
+        return talentReactiveService.getTalentProfileById(id);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.backend.talent.event;
+
+import com.example.backend.talent.model.TalentChangeMarker;
+import com.example.backend.talent.repository.TalentRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ *  Global sequence of committed talent changes, used as ETag of listing pages.
+ *  Epoch of the sequence is the start time of the application, so ETags issued before a restart never match.
+ *  Sequence counts only changes committed on this node, so ETag also contains the change marker of talent table,
+ *  which is read from database once per value of the sequence and at most once per ttl:
+ *  changes made on other nodes change the ETag within ttl
+ *
+ * */
+@Component
+public class TalentChangeSequence {
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final AtomicLong sequence = new AtomicLong();
+    private final LoadingCache<Long, TalentChangeMarker> markers;
+
+    public TalentChangeSequence(TalentRepository talentRepository,
+                                @Value("${talent.cache.listing.ttl:PT10S}") Duration markerTtl) {
+        this.markers = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(markerTtl)
+                .build(value -> talentRepository.findChangeMarker());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTalentChanged(TalentChangedEvent event) {
+        sequence.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTalentsImported(TalentsImportedEvent event) {
+        sequence.incrementAndGet();
+    }
+
+    public long getValue() {
+        return sequence.get();
+    }
+
+    /**
+     * Change marker of talent table, it is read again after every local change and after ttl
+     *
+     * @return count, newest id and sum of versions of talents
+     * */
+    public TalentChangeMarker getChangeMarker() {
+        return markers.get(sequence.get());
+    }
+
+    public String getETag() {
+        long value = sequence.get();
+        return "talents-" + epoch + "-" + value + "-" + format(markers.get(value));
+    }
+
+    private static String format(TalentChangeMarker changeMarker) {
+        return Long.toString(changeMarker.count(), Character.MAX_RADIX)
+                + "." + Long.toString(changeMarker.maxId(), Character.MAX_RADIX)
+                + "." + Long.toString(changeMarker.versionSum(), Character.MAX_RADIX);
+    }
+}
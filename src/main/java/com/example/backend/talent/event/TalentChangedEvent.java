@@ -0,0 +1,29 @@
+package com.example.backend.talent.event;
+
+import com.example.backend.talent.model.entity.Talent;
+
+/**
+ *  Event published by talent service on every talent write.
+ *  Listeners keep in-memory indexes and caches in sync with the database
+ *
+ * @param changeType type of change
+ * @param talentId id of changed talent
+ * @param talent state of talent after change, null for deleted talent
+ * */
+public record TalentChangedEvent(ChangeType changeType, Long talentId, Talent talent) {
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static TalentChangedEvent created(Talent talent) {
+        return new TalentChangedEvent(ChangeType.CREATED, talent.getId(), talent);
+    }
+
+    public static TalentChangedEvent updated(Talent talent) {
+        return new TalentChangedEvent(ChangeType.UPDATED, talent.getId(), talent);
+    }
+
+    public static TalentChangedEvent deleted(Long talentId) {
+        return new TalentChangedEvent(ChangeType.DELETED, talentId, null);
+    }
+}
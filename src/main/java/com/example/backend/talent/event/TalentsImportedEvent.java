@@ -0,0 +1,14 @@
+package com.example.backend.talent.event;
+
+import com.example.backend.talent.model.entity.Talent;
+
+import java.util.List;
+
+/**
+ *  Event published by talent import once per saved batch instead of a {@link TalentChangedEvent} per talent,
+ *  so listeners update their indexes and caches once for the whole batch
+ *
+ * @param talents created talents
+ * */
+public record TalentsImportedEvent(List<Talent> talents) {
+}
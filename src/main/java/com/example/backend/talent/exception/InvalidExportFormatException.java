@@ -0,0 +1,9 @@
+package com.example.backend.talent.exception;
+
+import com.example.backend.utils.exception.BadRequestException;
+
+public class InvalidExportFormatException extends BadRequestException {
+    public InvalidExportFormatException(String message) {
+        super(message);
+    }
+}
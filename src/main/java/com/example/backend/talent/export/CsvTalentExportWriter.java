@@ -0,0 +1,64 @@
+package com.example.backend.talent.export;
+
+import com.example.backend.talent.model.entity.Talent;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+public class CsvTalentExportWriter implements TalentExportWriter {
+    private static final String HEADER = "id,lastname,firstname,avatar,banner,email,location,birthday,about_me,skills";
+    private static final String SKILLS_SEPARATOR = ";";
+
+    private final Writer writer;
+
+    public CsvTalentExportWriter(OutputStream outputStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        writer.write(HEADER);
+        writer.write('\n');
+    }
+
+    @Override
+    public void write(Talent talent) throws IOException {
+        writer.write(String.valueOf(talent.getId()));
+        writeValue(talent.getLastname());
+        writeValue(talent.getFirstname());
+        writeValue(talent.getAvatar());
+        writeValue(talent.getBanner());
+        writeValue(talent.getEmail());
+        writeValue(talent.getLocation());
+        writeValue(talent.getBirthday());
+        writeValue(talent.getAboutMe());
+        writeValue(talent.getSkills() == null ? null : String.join(SKILLS_SEPARATOR, talent.getSkills()));
+        writer.write('\n');
+    }
+
+    @Override
+    public void writeFooter() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeValue(Object value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+        String text = Objects.toString(value);
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
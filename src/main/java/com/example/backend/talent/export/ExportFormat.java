@@ -0,0 +1,70 @@
+package com.example.backend.talent.export;
+
+import com.example.backend.talent.exception.InvalidExportFormatException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    XML(MediaType.APPLICATION_XML, "xml"),
+    JSON_LINES(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    /**
+     * Choose export format by Accept header, XML is used when any format is acceptable
+     *
+     * @param accept value of Accept header
+     *
+     * @return export format
+     * */
+    public static ExportFormat fromAcceptHeader(String accept) throws HttpMediaTypeNotAcceptableException {
+        if (accept == null || accept.isBlank()) {
+            return XML;
+        }
+        List<MediaType> acceptedTypes;
+        try {
+            acceptedTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            throw new HttpMediaTypeNotAcceptableException("Could not parse Accept header: " + e.getMessage());
+        }
+        acceptedTypes.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType acceptedType : acceptedTypes) {
+            for (ExportFormat format : values()) {
+                if (acceptedType.includes(format.mediaType)) {
+                    return format;
+                }
+            }
+        }
+        throw new HttpMediaTypeNotAcceptableException(Arrays.stream(values()).map(ExportFormat::getMediaType).toList());
+    }
+
+    public static ExportFormat fromExtension(String extension) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(extension)) {
+                return format;
+            }
+        }
+        throw new InvalidExportFormatException("Export format should be one of [xml, ndjson, csv]");
+    }
+
+    public TalentExportWriter createWriter(OutputStream outputStream) throws IOException {
+        return switch (this) {
+            case XML -> new XmlTalentExportWriter(outputStream);
+            case JSON_LINES -> new JsonLinesTalentExportWriter(outputStream);
+            case CSV -> new CsvTalentExportWriter(outputStream);
+        };
+    }
+}
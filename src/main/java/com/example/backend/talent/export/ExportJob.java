@@ -0,0 +1,79 @@
+package com.example.backend.talent.export;
+
+import java.util.Properties;
+
+/**
+ *  State of export job, it is saved as manifest next to the exported file.
+ *  Rows up to lastId are committed into the first committedBytes of the file,
+ *  so an interrupted job continues from there
+ *
+ * */
+public record ExportJob(String id,
+                        ExportFormat format,
+                        ExportJobStatus status,
+                        long createdAt,
+                        Long finishedAt,
+                        long totalRows,
+                        long exportedRows,
+                        long lastId,
+                        long committedBytes,
+                        String error) {
+
+    public static ExportJob queued(String id, ExportFormat format, long now) {
+        return new ExportJob(id, format, ExportJobStatus.QUEUED, now, null, 0, 0, 0, 0, null);
+    }
+
+    public ExportJob running(long totalRows) {
+        return new ExportJob(id, format, ExportJobStatus.RUNNING, createdAt, null,
+                totalRows, exportedRows, lastId, committedBytes, null);
+    }
+
+    public ExportJob committed(long exportedRows, long lastId, long committedBytes) {
+        return new ExportJob(id, format, status, createdAt, null,
+                Math.max(totalRows, exportedRows), exportedRows, lastId, committedBytes, null);
+    }
+
+    public ExportJob completed(long committedBytes, long now) {
+        return new ExportJob(id, format, ExportJobStatus.COMPLETED, createdAt, now,
+                exportedRows, exportedRows, lastId, committedBytes, null);
+    }
+
+    public ExportJob failed(String error, long now) {
+        return new ExportJob(id, format, ExportJobStatus.FAILED, createdAt, now,
+                totalRows, exportedRows, lastId, committedBytes, error);
+    }
+
+    public Properties toProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("id", id);
+        properties.setProperty("format", format.name());
+        properties.setProperty("status", status.name());
+        properties.setProperty("createdAt", String.valueOf(createdAt));
+        if (finishedAt != null) {
+            properties.setProperty("finishedAt", String.valueOf(finishedAt));
+        }
+        properties.setProperty("totalRows", String.valueOf(totalRows));
+        properties.setProperty("exportedRows", String.valueOf(exportedRows));
+        properties.setProperty("lastId", String.valueOf(lastId));
+        properties.setProperty("committedBytes", String.valueOf(committedBytes));
+        if (error != null) {
+            properties.setProperty("error", error);
+        }
+        return properties;
+    }
+
+    public static ExportJob fromProperties(Properties properties) {
+        String finishedAt = properties.getProperty("finishedAt");
+        return new ExportJob(
+                properties.getProperty("id"),
+                ExportFormat.valueOf(properties.getProperty("format")),
+                ExportJobStatus.valueOf(properties.getProperty("status")),
+                Long.parseLong(properties.getProperty("createdAt")),
+                finishedAt == null ? null : Long.valueOf(finishedAt),
+                Long.parseLong(properties.getProperty("totalRows")),
+                Long.parseLong(properties.getProperty("exportedRows")),
+                Long.parseLong(properties.getProperty("lastId")),
+                Long.parseLong(properties.getProperty("committedBytes")),
+                properties.getProperty("error"));
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.backend.talent.export;
+
+import java.time.Instant;
+
+public record ExportJobResponse(String id,
+                                ExportJobStatus status,
+                                String format,
+                                long exportedRows,
+                                long totalRows,
+                                double progress,
+                                Instant createdAt,
+                                Instant finishedAt,
+                                String error) {
+
+    public static ExportJobResponse from(ExportJob job) {
+        double progress = job.status() == ExportJobStatus.COMPLETED ? 1.0
+                : job.totalRows() == 0 ? 0.0 : Math.min(1.0, (double) job.exportedRows() / job.totalRows());
+        return new ExportJobResponse(job.id(), job.status(), job.format().getExtension(),
+                job.exportedRows(), job.totalRows(), progress,
+                Instant.ofEpochMilli(job.createdAt()),
+                job.finishedAt() == null ? null : Instant.ofEpochMilli(job.finishedAt()),
+                job.error());
+    }
+}
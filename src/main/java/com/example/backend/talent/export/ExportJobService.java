@@ -0,0 +1,258 @@
+package com.example.backend.talent.export;
+
+import com.example.backend.talent.exception.ExportJobNotFoundException;
+import com.example.backend.talent.model.entity.Talent;
+import com.example.backend.talent.repository.TalentRepository;
+import com.example.backend.utils.exception.ServiceUnavailableException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ *  Service for background export jobs.
+ *  Every job writes talents into a file in the spool directory chunk by chunk, each chunk in its own
+ *  read-only transaction. After a chunk is synced to disk the manifest of the job is updated,
+ *  so a job interrupted by a crash continues from the last committed chunk on the next startup
+ *
+ * */
+@Slf4j
+@Service
+public class ExportJobService {
+    private static final String MANIFEST_EXTENSION = ".properties";
+
+    private final TalentRepository talentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Path spoolDirectory;
+    private final Duration retention;
+    private final int chunkSize;
+    private final ThreadPoolExecutor executor;
+    private final ConcurrentMap<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    public ExportJobService(TalentRepository talentRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${talent.export.spool-dir:${java.io.tmpdir}/talent-exports}") String spoolDirectory,
+                            @Value("${talent.export.retention:PT24H}") Duration retention,
+                            @Value("${talent.export.chunk-size:1000}") int chunkSize,
+                            @Value("${talent.export.max-concurrent-jobs:2}") int maxConcurrentJobs,
+                            @Value("${talent.export.queue-capacity:8}") int queueCapacity) {
+        this.talentRepository = talentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.spoolDirectory = Path.of(spoolDirectory);
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+        this.executor = new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("talent-export-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Pick up jobs left in spool directory, unfinished jobs are resumed
+     * */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeJobs() throws IOException {
+        Files.createDirectories(spoolDirectory);
+        try (DirectoryStream<Path> manifests = Files.newDirectoryStream(spoolDirectory, "*" + MANIFEST_EXTENSION)) {
+            for (Path manifest : manifests) {
+                ExportJob job = readManifest(manifest);
+                if (job == null) {
+                    continue;
+                }
+                jobs.put(job.id(), job);
+                if (!job.status().isFinished()) {
+                    log.info("Resuming export job {} from talent id {}", job.id(), job.lastId());
+                    submit(job);
+                }
+            }
+        }
+    }
+
+    public ExportJob startJob(ExportFormat format) throws IOException {
+        Files.createDirectories(spoolDirectory);
+        ExportJob job = ExportJob.queued(UUID.randomUUID().toString(), format, System.currentTimeMillis());
+        writeManifest(job);
+        jobs.put(job.id(), job);
+        try {
+            submit(job);
+        } catch (ServiceUnavailableException e) {
+            jobs.remove(job.id());
+            deleteFiles(job);
+            throw e;
+        }
+        return job;
+    }
+
+    public ExportJob getJob(String id) {
+        ExportJob job = jobs.get(id);
+        if (job == null) {
+            throw new ExportJobNotFoundException("Export job was not found");
+        }
+        return job;
+    }
+
+    /**
+     * Get file of completed job
+     *
+     * @param job completed job
+     *
+     * @return path of exported file
+     * */
+    public Path getCompletedFile(ExportJob job) {
+        if (job.status() != ExportJobStatus.COMPLETED) {
+            throw new IllegalStateException("Export job " + job.id() + " is not completed");
+        }
+        return dataFile(job);
+    }
+
+    /**
+     * Remove finished jobs older than retention period
+     * */
+    @Scheduled(fixedDelayString = "${talent.export.cleanup-interval-ms:600000}")
+    public void cleanUp() {
+        long expiredBefore = System.currentTimeMillis() - retention.toMillis();
+        for (ExportJob job : jobs.values()) {
+            if (job.status().isFinished() && job.finishedAt() != null && job.finishedAt() < expiredBefore) {
+                jobs.remove(job.id());
+                deleteFiles(job);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void submit(ExportJob job) {
+        try {
+            executor.execute(() -> run(job.id()));
+        } catch (RejectedExecutionException e) {
+            throw new ServiceUnavailableException("Too many export jobs, try again later");
+        }
+    }
+
+    private void run(String id) {
+        ExportJob job = jobs.get(id);
+        try {
+            job = job.running(Math.max(talentRepository.count(), job.exportedRows()));
+            updateJob(job);
+            job = export(job);
+        } catch (Exception e) {
+            if (Thread.currentThread().isInterrupted()) {
+                /* interrupted by shutdown, the job continues on next startup */
+                return;
+            }
+            log.warn("Export job {} failed", id, e);
+            job = job.failed(e.getMessage(), System.currentTimeMillis());
+            updateJobQuietly(job);
+        }
+    }
+
+    private ExportJob export(ExportJob job) throws IOException {
+        try (FileChannel channel = FileChannel.open(dataFile(job),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            /* drop everything written after the last committed chunk */
+            channel.truncate(job.committedBytes());
+            channel.position(job.committedBytes());
+
+            TalentExportWriter writer = job.format().createWriter(Channels.newOutputStream(channel));
+            if (job.committedBytes() == 0) {
+                writer.writeHeader();
+            }
+
+            while (!Thread.currentThread().isInterrupted()) {
+                long lastId = job.lastId();
+                List<Talent> chunk = transactionTemplate.execute(status ->
+                        talentRepository.findExportChunk(lastId, chunkSize));
+                if (chunk == null || chunk.isEmpty()) {
+                    break;
+                }
+                for (Talent talent : chunk) {
+                    writer.write(talent);
+                }
+                writer.flush();
+                channel.force(false);
+
+                job = job.committed(job.exportedRows() + chunk.size(),
+                        chunk.get(chunk.size() - 1).getId(), channel.position());
+                updateJob(job);
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("Export job was interrupted");
+            }
+
+            writer.writeFooter();
+            channel.force(true);
+            job = job.completed(channel.position(), System.currentTimeMillis());
+            updateJob(job);
+            return job;
+        }
+    }
+
+    private void updateJob(ExportJob job) throws IOException {
+        writeManifest(job);
+        jobs.put(job.id(), job);
+    }
+
+    private void updateJobQuietly(ExportJob job) {
+        jobs.put(job.id(), job);
+        try {
+            writeManifest(job);
+        } catch (IOException e) {
+            log.warn("Failed to save manifest of export job {}", job.id(), e);
+        }
+    }
+
+    private void writeManifest(ExportJob job) throws IOException {
+        Path manifest = manifestFile(job.id());
+        Path temporaryManifest = spoolDirectory.resolve(job.id() + MANIFEST_EXTENSION + ".tmp");
+        try (OutputStream output = Files.newOutputStream(temporaryManifest)) {
+            job.toProperties().store(output, null);
+        }
+        Files.move(temporaryManifest, manifest, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private ExportJob readManifest(Path manifest) {
+        try (InputStream input = Files.newInputStream(manifest)) {
+            Properties properties = new Properties();
+            properties.load(input);
+            return ExportJob.fromProperties(properties);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Skipping broken export job manifest {}", manifest, e);
+            return null;
+        }
+    }
+
+    private void deleteFiles(ExportJob job) {
+        try {
+            Files.deleteIfExists(dataFile(job));
+            Files.deleteIfExists(manifestFile(job.id()));
+        } catch (IOException e) {
+            log.warn("Failed to delete files of export job {}", job.id(), e);
+        }
+    }
+
+    private Path dataFile(ExportJob job) {
+        return spoolDirectory.resolve(job.id() + "." + job.format().getExtension());
+    }
+
+    private Path manifestFile(String id) {
+        return spoolDirectory.resolve(id + MANIFEST_EXTENSION);
+    }
+}
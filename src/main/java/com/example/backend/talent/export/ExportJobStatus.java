@@ -0,0 +1,9 @@
+package com.example.backend.talent.export;
+
+public enum ExportJobStatus {
+    QUEUED, RUNNING, COMPLETED, FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.backend.talent.export;
+
+import com.example.backend.talent.model.entity.Talent;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public class JsonLinesTalentExportWriter implements TalentExportWriter {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    private final JsonGenerator generator;
+
+    public JsonLinesTalentExportWriter(OutputStream outputStream) throws IOException {
+        this.generator = JSON_FACTORY.createGenerator(outputStream);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void writeHeader() {
+    }
+
+    @Override
+    public void write(Talent talent) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", talent.getId());
+        writeField("lastname", talent.getLastname());
+        writeField("firstname", talent.getFirstname());
+        writeField("avatar", talent.getAvatar());
+        writeField("banner", talent.getBanner());
+        writeField("email", talent.getEmail());
+        writeField("location", talent.getLocation());
+        writeField("birthday", talent.getBirthday() == null ? null : talent.getBirthday().toString());
+        writeField("about_me", talent.getAboutMe());
+        generator.writeArrayFieldStart("skills");
+        if (talent.getSkills() != null) {
+            for (String skill : talent.getSkills()) {
+                generator.writeString(skill);
+            }
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void writeFooter() throws IOException {
+        generator.flush();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    private void writeField(String name, String value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(name, value);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.backend.talent.export;
+
+import com.example.backend.talent.model.entity.Talent;
+import com.example.backend.talent.repository.TalentRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ *  Service for exporting talents as a stream.
+ *  Rows are read by id in chunks, every chunk with its skills in one fetch join query,
+ *  and detached after it is written, so memory use does not grow with number of talents
+ *
+ * */
+@Service
+@RequiredArgsConstructor
+public class TalentExportService {
+    public static final int CHUNK_SIZE = 500;
+
+    private final TalentRepository talentRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * Write all talents into output stream
+     *
+     * @param outputStream target stream, it is flushed after every chunk and not closed
+     * @param format export format
+     *
+     * @return number of exported talents
+     * */
+    @Transactional(readOnly = true)
+    public long export(OutputStream outputStream, ExportFormat format) throws IOException {
+        TalentExportWriter writer = format.createWriter(outputStream);
+        writer.writeHeader();
+
+        long count = 0;
+        long lastId = Long.MIN_VALUE;
+        while (true) {
+            List<Talent> chunk = talentRepository.findExportChunk(lastId, CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            for (Talent talent : chunk) {
+                writer.write(talent);
+                count++;
+            }
+            lastId = chunk.get(chunk.size() - 1).getId();
+            writer.flush();
+            entityManager.clear();
+        }
+
+        writer.writeFooter();
+        return count;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.backend.talent.export;
+
+import com.example.backend.talent.model.entity.Talent;
+
+import java.io.IOException;
+
+/**
+ *  Forward-only writer of exported talents, it keeps no rows in memory.
+ *  Password hashes are never written
+ *
+ * */
+public interface TalentExportWriter {
+    void writeHeader() throws IOException;
+
+    void write(Talent talent) throws IOException;
+
+    void writeFooter() throws IOException;
+
+    void flush() throws IOException;
+}
@@ -0,0 +1,91 @@
+package com.example.backend.talent.export;
+
+import com.example.backend.talent.model.entity.Talent;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ *  Streaming XML writer. The root element is written as plain text,
+ *  so an export can be continued from the middle of the document
+ *
+ * */
+public class XmlTalentExportWriter implements TalentExportWriter {
+    private static final String HEADER = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<talents>\n";
+    private static final String FOOTER = "</talents>\n";
+
+    private final Writer writer;
+
+    public XmlTalentExportWriter(OutputStream outputStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        writer.write(HEADER);
+    }
+
+    @Override
+    public void write(Talent talent) throws IOException {
+        writer.write("<talent>");
+        writeElement("id", talent.getId());
+        writeElement("lastname", talent.getLastname());
+        writeElement("firstname", talent.getFirstname());
+        writeElement("avatar", talent.getAvatar());
+        writeElement("banner", talent.getBanner());
+        writeElement("email", talent.getEmail());
+        writeElement("location", talent.getLocation());
+        writeElement("birthday", talent.getBirthday());
+        writeElement("about_me", talent.getAboutMe());
+        writer.write("<skills>");
+        if (talent.getSkills() != null) {
+            for (String skill : talent.getSkills()) {
+                writeElement("skill", skill);
+            }
+        }
+        writer.write("</skills></talent>\n");
+    }
+
+    @Override
+    public void writeFooter() throws IOException {
+        writer.write(FOOTER);
+        writer.flush();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeElement(String name, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        writer.write('<');
+        writer.write(name);
+        writer.write('>');
+        writeEscaped(Objects.toString(value));
+        writer.write("</");
+        writer.write(name);
+        writer.write('>');
+    }
+
+    private void writeEscaped(String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            char symbol = text.charAt(i);
+            switch (symbol) {
+                case '<' -> writer.write("&lt;");
+                case '>' -> writer.write("&gt;");
+                case '&' -> writer.write("&amp;");
+                case '"' -> writer.write("&quot;");
+                default -> {
+                    /* control characters are not allowed in XML 1.0 */
+                    if (symbol >= 0x20 || symbol == '\t' || symbol == '\n' || symbol == '\r') {
+                        writer.write(symbol);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.backend.talent.importer;
+
+import com.example.backend.talent.model.request.TalentRegistration;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ *  Reader of CSV import files.
+ *  Columns are matched by header, so files exported by the talent export can be imported after
+ *  adding password column. Skills are separated by semicolon
+ *
+ * */
+public class CsvTalentImportReader implements TalentImportReader {
+    private static final String SKILLS_SEPARATOR = ";";
+
+    private final BufferedReader reader;
+    private Map<String, Integer> columns;
+    private long line;
+    private long recordLine;
+
+    public CsvTalentImportReader(InputStream inputStream) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        if (columns == null) {
+            List<String> header = readRecord();
+            if (header == null) {
+                return null;
+            }
+            columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+        }
+
+        List<String> record;
+        while ((record = readRecord()) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            TalentRegistration registration = new TalentRegistration();
+            registration.setLastname(value(record, "lastname"));
+            registration.setFirstname(value(record, "firstname"));
+            registration.setEmail(value(record, "email"));
+            registration.setPassword(value(record, "password"));
+            registration.setSkills(skills(value(record, "skills")));
+            return ImportRow.parsed(recordLine, registration);
+        }
+        return null;
+    }
+
+    private String value(List<String> record, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        return record.get(index).trim();
+    }
+
+    private Set<String> skills(String value) {
+        if (value == null) {
+            return null;
+        }
+        Set<String> skills = new LinkedHashSet<>();
+        for (String skill : value.split(SKILLS_SEPARATOR)) {
+            if (!skill.isBlank()) {
+                skills.add(skill.trim());
+            }
+        }
+        return skills;
+    }
+
+    private List<String> readRecord() throws IOException {
+        int character = reader.read();
+        if (character < 0) {
+            return null;
+        }
+        recordLine = ++line;
+
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        while (character >= 0) {
+            if (quoted) {
+                if (character == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        value.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    if (character == '\n') {
+                        line++;
+                    }
+                    value.append((char) character);
+                }
+            } else if (character == '"') {
+                quoted = true;
+            } else if (character == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (character == '\n') {
+                break;
+            } else if (character != '\r') {
+                value.append((char) character);
+            }
+            character = reader.read();
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.backend.talent.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+
+import java.io.InputStream;
+import java.util.Arrays;
+
+@Getter
+@RequiredArgsConstructor
+public enum ImportFormat {
+    JSON_LINES(MediaType.APPLICATION_NDJSON),
+    CSV(new MediaType("text", "csv"));
+
+    private final MediaType mediaType;
+
+    /**
+     * Choose import format by Content-Type header
+     *
+     * @param contentType value of Content-Type header
+     *
+     * @return import format
+     * */
+    public static ImportFormat fromContentType(String contentType) throws HttpMediaTypeNotSupportedException {
+        if (contentType != null && !contentType.isBlank()) {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            for (ImportFormat format : values()) {
+                if (format.mediaType.isCompatibleWith(mediaType)) {
+                    return format;
+                }
+            }
+        }
+        throw new HttpMediaTypeNotSupportedException("Content type should be one of " +
+                Arrays.stream(values()).map(format -> format.mediaType.toString()).toList());
+    }
+
+    public TalentImportReader createReader(InputStream inputStream, ObjectMapper objectMapper) {
+        return switch (this) {
+            case JSON_LINES -> new JsonLinesTalentImportReader(inputStream, objectMapper);
+            case CSV -> new CsvTalentImportReader(inputStream);
+        };
+    }
+}
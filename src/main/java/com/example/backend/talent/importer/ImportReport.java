@@ -0,0 +1,14 @@
+package com.example.backend.talent.importer;
+
+import java.util.List;
+
+/**
+ *  Result of talent import
+ *
+ * @param totalRows number of rows in file
+ * @param importedRows number of saved talents
+ * @param failedRows number of rejected rows
+ * @param errors errors of rejected rows, limited by talent.import.max-reported-errors
+ * */
+public record ImportReport(long totalRows, long importedRows, long failedRows, List<ImportRowError> errors) {
+}
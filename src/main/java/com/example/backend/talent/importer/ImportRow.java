@@ -0,0 +1,20 @@
+package com.example.backend.talent.importer;
+
+import com.example.backend.talent.model.request.TalentRegistration;
+
+/**
+ *  Row read from import file
+ *
+ * @param line line number where row starts
+ * @param registration parsed talent, null when row could not be parsed
+ * @param error parse error, null when row was parsed
+ * */
+public record ImportRow(long line, TalentRegistration registration, String error) {
+    public static ImportRow parsed(long line, TalentRegistration registration) {
+        return new ImportRow(line, registration, null);
+    }
+
+    public static ImportRow malformed(long line, String error) {
+        return new ImportRow(line, null, error);
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.backend.talent.importer;
+
+import java.util.List;
+
+public record ImportRowError(long line, String email, List<String> messages) {
+}
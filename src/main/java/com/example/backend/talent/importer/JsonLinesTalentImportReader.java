@@ -0,0 +1,36 @@
+package com.example.backend.talent.importer;
+
+import com.example.backend.talent.model.request.TalentRegistration;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+public class JsonLinesTalentImportReader implements TalentImportReader {
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long line;
+
+    public JsonLinesTalentImportReader(InputStream inputStream, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            try {
+                return ImportRow.parsed(line, objectMapper.readValue(text, TalentRegistration.class));
+            } catch (JsonProcessingException e) {
+                return ImportRow.malformed(line, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+}
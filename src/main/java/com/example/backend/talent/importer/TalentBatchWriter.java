@@ -0,0 +1,59 @@
+package com.example.backend.talent.importer;
+
+import com.example.backend.talent.model.entity.Talent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ *  Writer of talents with JDBC batches, one statement for talents and one for their skills.
+ *  Ids must be assigned by TalentIdAllocator and transaction is managed by caller
+ *
+ * */
+@Component
+@RequiredArgsConstructor
+public class TalentBatchWriter {
+    private static final String INSERT_TALENT = "insert into talent " +
+            "(id, lastname, firstname, avatar, banner, location, email, normalized_email, password, birthday, about_me, version) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_SKILL = "insert into talent_skills (talent_id, skills) values (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insert(List<Talent> talents) {
+        jdbcTemplate.batchUpdate(INSERT_TALENT, talents, talents.size(), (statement, talent) -> {
+            statement.setLong(1, talent.getId());
+            statement.setString(2, talent.getLastname());
+            statement.setString(3, talent.getFirstname());
+            statement.setString(4, talent.getAvatar());
+            statement.setString(5, talent.getBanner());
+            statement.setString(6, talent.getLocation());
+            statement.setString(7, talent.getEmail());
+            statement.setString(8, Talent.normalizeEmail(talent.getEmail()));
+            statement.setString(9, talent.getPassword());
+            if (talent.getBirthday() == null) {
+                statement.setNull(10, Types.DATE);
+            } else {
+                statement.setObject(10, talent.getBirthday());
+            }
+            statement.setString(11, talent.getAboutMe());
+        });
+
+        List<Object[]> skills = new ArrayList<>();
+        for (Talent talent : talents) {
+            if (talent.getSkills() == null) {
+                continue;
+            }
+            for (String skill : talent.getSkills()) {
+                skills.add(new Object[]{talent.getId(), skill});
+            }
+        }
+        if (!skills.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SKILL, skills);
+        }
+    }
+}
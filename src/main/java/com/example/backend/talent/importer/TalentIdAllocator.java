@@ -0,0 +1,52 @@
+package com.example.backend.talent.importer;
+
+import com.example.backend.talent.model.entity.Talent;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ *  Allocator of talent ids for inserts that bypass Hibernate.
+ *  It shares the talent sequence with Hibernate pooled optimizer: every sequence value V reserves ids
+ *  from V - allocation size + 1 to V, so one sequence call serves a whole block of rows
+ *  and ids never collide with ids generated by Hibernate
+ *
+ * */
+@Component
+public class TalentIdAllocator {
+    private final JdbcTemplate jdbcTemplate;
+    private final String nextValueQuery;
+    private long nextId;
+    private long maxId = -1;
+
+    public TalentIdAllocator(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        this.jdbcTemplate = jdbcTemplate;
+        this.nextValueQuery = dialect.getSequenceSupport().getSequenceNextValString(Talent.ID_SEQUENCE);
+    }
+
+    /**
+     * Allocate ids for new talents
+     *
+     * @param count number of ids
+     *
+     * @return allocated ids in ascending order
+     * */
+    public synchronized long[] allocate(int count) {
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            if (nextId > maxId) {
+                Long value = jdbcTemplate.queryForObject(nextValueQuery, Long.class);
+                if (value == null) {
+                    throw new IllegalStateException("Sequence " + Talent.ID_SEQUENCE + " returned no value");
+                }
+                maxId = value;
+                nextId = Math.max(1, value - Talent.ID_ALLOCATION_SIZE + 1);
+            }
+            ids[i] = nextId++;
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.backend.talent.importer;
+
+import java.io.IOException;
+
+public interface TalentImportReader {
+    /**
+     * Read next row of import file
+     *
+     * @return next row or null when file is over
+     * */
+    ImportRow next() throws IOException;
+}
@@ -0,0 +1,211 @@
+package com.example.backend.talent.importer;
+
+import com.example.backend.talent.event.TalentsImportedEvent;
+import com.example.backend.talent.model.entity.Talent;
+import com.example.backend.talent.model.request.TalentRegistration;
+import com.example.backend.talent.repository.TalentRepository;
+import com.example.backend.utils.service.PasswordHashingService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+/**
+ *  Service for bulk import of talents.
+ *  File is read as a stream and processed in batches: rows are validated, emails are checked
+ *  with one query per batch, passwords are hashed in parallel and rows are inserted with JDBC batches,
+ *  every batch in its own transaction. A batch failed by the database is retried row by row.
+ *  Rejected rows are reported and do not stop the import
+ *
+ * */
+@Slf4j
+@Service
+public class TalentImportService {
+    private final TalentRepository talentRepository;
+    private final TalentIdAllocator talentIdAllocator;
+    private final PasswordHashingService passwordHashingService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TalentBatchWriter talentBatchWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public TalentImportService(TalentRepository talentRepository,
+                               TalentIdAllocator talentIdAllocator,
+                               PasswordHashingService passwordHashingService,
+                               Validator validator,
+                               ObjectMapper objectMapper,
+                               TalentBatchWriter talentBatchWriter,
+                               PlatformTransactionManager transactionManager,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${talent.import.batch-size:500}") int batchSize,
+                               @Value("${talent.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.talentRepository = talentRepository;
+        this.talentIdAllocator = talentIdAllocator;
+        this.passwordHashingService = passwordHashingService;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.talentBatchWriter = talentBatchWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * Import talents from file
+     *
+     * @param inputStream content of file
+     * @param format format of file
+     *
+     * @return report with number of imported rows and errors of rejected rows
+     * */
+    public ImportReport importTalents(InputStream inputStream, ImportFormat format) throws IOException {
+        TalentImportReader reader = format.createReader(inputStream, objectMapper);
+        ImportProgress progress = new ImportProgress();
+
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+        ImportRow row;
+        while ((row = reader.next()) != null) {
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                importBatch(batch, progress);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            importBatch(batch, progress);
+        }
+
+        return new ImportReport(progress.totalRows, progress.importedRows, progress.failedRows, progress.errors);
+    }
+
+    private void importBatch(List<ImportRow> batch, ImportProgress progress) {
+        progress.totalRows += batch.size();
+
+        Map<String, ImportRow> candidates = new LinkedHashMap<>();
+        for (ImportRow row : batch) {
+            if (row.error() != null) {
+                progress.reject(row, List.of(row.error()));
+                continue;
+            }
+            List<String> messages = validate(row.registration());
+            if (!messages.isEmpty()) {
+                progress.reject(row, messages);
+                continue;
+            }
+            String email = Talent.normalizeEmail(row.registration().getEmail());
+            if (!progress.seenEmails.add(email)) {
+                progress.reject(row, List.of("Email is duplicated in the file"));
+                continue;
+            }
+            candidates.put(email, row);
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        for (String email : talentRepository.findExistingEmails(candidates.keySet())) {
+            ImportRow row = candidates.remove(email);
+            progress.reject(row, List.of("The talent has already exists with email [" + row.registration().getEmail() + "]"));
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        List<ImportRow> rows = new ArrayList<>(candidates.values());
+        List<String> passwords = passwordHashingService.encodeAll(
+                rows.stream().map(row -> row.registration().getPassword()).toList());
+        long[] ids = talentIdAllocator.allocate(rows.size());
+
+        List<Talent> talents = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            TalentRegistration registration = rows.get(i).registration();
+            talents.add(Talent.builder()
+                    .id(ids[i])
+                    .lastname(registration.getLastname())
+                    .firstname(registration.getFirstname())
+                    .email(registration.getEmail())
+                    .password(passwords.get(i))
+                    .skills(new LinkedHashSet<>(registration.getSkills()))
+                    .build());
+        }
+
+        if (insert(talents)) {
+            progress.importedRows += talents.size();
+            return;
+        }
+
+        /* one bad row fails the whole JDBC batch, so the batch is retried row by row to reject only bad rows */
+        log.warn("Failed to save batch of {} imported talents, saving them one by one", talents.size());
+        for (int i = 0; i < talents.size(); i++) {
+            if (insert(List.of(talents.get(i)))) {
+                progress.importedRows++;
+            } else {
+                progress.reject(rows.get(i), List.of("Failed to save talent"));
+            }
+        }
+    }
+
+    /**
+     * Insert talents in one transaction
+     *
+     * @param talents talents with allocated ids
+     *
+     * @return are talents saved
+     * */
+    private boolean insert(List<Talent> talents) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                talentBatchWriter.insert(talents);
+                eventPublisher.publishEvent(new TalentsImportedEvent(List.copyOf(talents)));
+            });
+            return true;
+        } catch (DataAccessException e) {
+            if (talents.size() == 1) {
+                log.warn("Failed to save imported talent {}", talents.get(0).getEmail(), e);
+            }
+            return false;
+        }
+    }
+
+    private List<String> validate(TalentRegistration registration) {
+        List<String> messages = new ArrayList<>();
+        for (ConstraintViolation<TalentRegistration> violation : validator.validate(registration)) {
+            messages.add(violation.getMessage());
+        }
+        if (registration.getSkills() != null && registration.getSkills().isEmpty()) {
+            messages.add("Skills should not be empty");
+        }
+        Collections.sort(messages);
+        return messages;
+    }
+
+    private class ImportProgress {
+        private final Set<String> seenEmails = new HashSet<>();
+        private final List<ImportRowError> errors = new ArrayList<>();
+        private long totalRows;
+        private long importedRows;
+        private long failedRows;
+
+        private void reject(ImportRow row, List<String> messages) {
+            failedRows++;
+            if (errors.size() < maxReportedErrors) {
+                String email = row.registration() == null ? null : row.registration().getEmail();
+                errors.add(new ImportRowError(row.line(), email, messages));
+            }
+        }
+    }
+}
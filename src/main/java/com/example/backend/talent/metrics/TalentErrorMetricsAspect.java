@@ -0,0 +1,58 @@
+package com.example.backend.talent.metrics;
+
+import com.example.backend.talent.exception.TalentExistsException;
+import com.example.backend.talent.exception.TalentNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterThrowing;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Component;
+
+/**
+ *  Counters of failed talent operations, exceptions are counted where they leave TalentService
+ *
+ * */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class TalentErrorMetricsAspect {
+    private static final String LOGIN_OPERATION = "login";
+
+    private final MeterRegistry meterRegistry;
+
+    @AfterThrowing(pointcut = "execution(public * com.example.backend.talent.service.TalentService.*(..))",
+            throwing = "exception")
+    public void countFailure(JoinPoint joinPoint, RuntimeException exception) {
+        String operation = joinPoint.getSignature().getName();
+
+        if (exception instanceof TalentNotFoundException) {
+            count("talent.not.found", "operation", operation);
+        } else if (exception instanceof TalentExistsException) {
+            count("talent.exists", "operation", operation);
+        }
+
+        if (LOGIN_OPERATION.equals(operation)) {
+            count("talent.login.failures", "reason", loginFailureReason(exception));
+        }
+    }
+
+    private static String loginFailureReason(RuntimeException exception) {
+        if (exception instanceof TalentNotFoundException) {
+            return "unknown_email";
+        }
+        if (exception instanceof BadCredentialsException) {
+            return "bad_credentials";
+        }
+        return exception.getClass().getSimpleName();
+    }
+
+    private void count(String name, String tagKey, String tagValue) {
+        Counter.builder(name)
+                .tag(tagKey, tagValue)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.backend.talent.model;
+
+/**
+ *  Summary of the talent table which changes with every committed write:
+ *  inserts raise the newest id, deletes lower the count and updates raise the sum of versions
+ *
+ * @param count number of talents
+ * @param maxId newest talent id, 0 for empty table
+ * @param versionSum sum of talent versions, 0 for empty table
+ * */
+public record TalentChangeMarker(Long count, Long maxId, Long versionSum) {
+    public TalentChangeMarker {
+        count = count == null ? 0L : count;
+        maxId = maxId == null ? 0L : maxId;
+        versionSum = versionSum == null ? 0L : versionSum;
+    }
+}
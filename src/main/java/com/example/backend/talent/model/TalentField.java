@@ -0,0 +1,76 @@
+package com.example.backend.talent.model;
+
+import com.example.backend.utils.exception.BadRequestException;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ *  Field of talent which can be requested in sparse fieldset.
+ *  Every field knows its JSON name and the entity attribute it is read from, skills are a collection
+ *  and are loaded with a separate query only when requested
+ *
+ * */
+public enum TalentField {
+    ID("id", "id"),
+    LASTNAME("lastname", "lastname"),
+    FIRSTNAME("firstname", "firstname"),
+    AVATAR("avatar", "avatar"),
+    BANNER("banner", "banner"),
+    SKILLS("skills", null),
+    LOCATION("location", "location"),
+    ABOUT_ME("about_me", "aboutMe");
+
+    public static final Set<TalentField> GENERAL_INFO_FIELDS =
+            Collections.unmodifiableSet(EnumSet.of(ID, LASTNAME, FIRSTNAME, AVATAR, BANNER, SKILLS));
+    public static final Set<TalentField> PROFILE_FIELDS =
+            Collections.unmodifiableSet(EnumSet.allOf(TalentField.class));
+
+    private final String jsonName;
+    private final String attribute;
+
+    TalentField(String jsonName, String attribute) {
+        this.jsonName = jsonName;
+        this.attribute = attribute;
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public boolean isColumn() {
+        return attribute != null;
+    }
+
+    /**
+     * Parse comma separated fieldset, id is always included.
+     * Order of the requested names does not matter, fields are returned in declaration order,
+     * so the same fieldset always gives the same response
+     *
+     * @param fields requested fields, for example id,firstname,avatar
+     * @param allowed fields available in response
+     *
+     * @return requested fields in declaration order
+     * */
+    public static Set<TalentField> parse(String fields, Set<TalentField> allowed) {
+        Set<TalentField> result = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String jsonName = name.trim().toLowerCase(Locale.ROOT);
+            if (jsonName.isEmpty()) {
+                continue;
+            }
+            TalentField field = Arrays.stream(values())
+                    .filter(value -> value.jsonName.equals(jsonName) && allowed.contains(value))
+                    .findFirst()
+                    .orElseThrow(() -> new BadRequestException("Fields should be from " + allowed.stream()
+                            .map(TalentField::getJsonName)
+                            .collect(Collectors.joining(", ", "[", "]"))));
+            result.add(field);
+        }
+        return result;
+    }
+}
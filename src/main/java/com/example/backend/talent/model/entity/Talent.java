@@ -3,10 +3,14 @@ package com.example.backend.talent.model.entity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.io.Serializable;
 import java.time.LocalDate;
+import java.util.Locale;
 import java.util.Set;
 
 import static jakarta.persistence.FetchType.EAGER;
@@ -17,23 +21,58 @@ import static jakarta.persistence.FetchType.EAGER;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(uniqueConstraints = @UniqueConstraint(name = Talent.NORMALIZED_EMAIL_CONSTRAINT, columnNames = "normalized_email"))
 public class Talent implements Serializable {
+    public static final String ID_SEQUENCE = "talent_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+    public static final String NORMALIZED_EMAIL_CONSTRAINT = "uk_talent_normalized_email";
+    /* same name as in db/scripts/add-talent-skills-cascade.sql, so generated and migrated schemas match */
+    public static final String SKILLS_FOREIGN_KEY = "fk_talent_skills_talent";
+
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     private String lastname;
     private String firstname;
     private String avatar;
     private String banner;
     @ElementCollection(fetch = EAGER)
+    @CollectionTable(name = "talent_skills", joinColumns = @JoinColumn(name = "talent_id"),
+            foreignKey = @ForeignKey(name = SKILLS_FOREIGN_KEY))
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @BatchSize(size = 100)
     private Set<String> skills;
     private String location;
     private String email;
+    @JsonIgnore
+    private String normalizedEmail;
     private String password;
     @JsonIgnore
     @Temporal(TemporalType.DATE)
     @DateTimeFormat(pattern = "yyyy-MM-dd")
     private LocalDate birthday;
     private String aboutMe;
+    /* existing databases get the column from db/scripts/add-talent-version.sql */
+    @JsonIgnore
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
+    /**
+     * Normalize email for uniqueness checks, so emails differing only in case or surrounding spaces are equal
+     *
+     * @param email email
+     *
+     * @return normalized email or null
+     * */
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
 
+    @PrePersist
+    @PreUpdate
+    void updateNormalizedEmail() {
+        normalizedEmail = normalizeEmail(email);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.example.backend.talent.model.response;
+
+import lombok.*;
+
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailAvailability {
+    private String email;
+    private boolean available;
+}
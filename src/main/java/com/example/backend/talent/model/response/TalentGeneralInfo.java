@@ -16,4 +16,12 @@ public class TalentGeneralInfo {
     private String avatar;
     private String banner;
     private Set<String> skills;
+
+    public TalentGeneralInfo(Long id, String lastname, String firstname, String avatar, String banner) {
+        this.id = id;
+        this.lastname = lastname;
+        this.firstname = firstname;
+        this.avatar = avatar;
+        this.banner = banner;
+    }
 }
\ No newline at end of file
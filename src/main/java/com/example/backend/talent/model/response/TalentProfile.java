@@ -1,5 +1,6 @@
 package com.example.backend.talent.model.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 
 import java.util.Set;
@@ -17,4 +18,6 @@ public class TalentProfile {
     private Set<String> skills;
     private String location;
     private String aboutMe;
+    @JsonIgnore
+    private Long version;
 }
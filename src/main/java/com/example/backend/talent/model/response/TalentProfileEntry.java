@@ -0,0 +1,13 @@
+package com.example.backend.talent.model.response;
+
+import lombok.*;
+
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TalentProfileEntry {
+    private Long id;
+    private boolean found;
+    private TalentProfile profile;
+}
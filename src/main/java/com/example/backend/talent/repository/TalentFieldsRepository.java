@@ -0,0 +1,35 @@
+package com.example.backend.talent.repository;
+
+import com.example.backend.talent.model.TalentField;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ *  Queries selecting only requested columns of talents
+ *
+ * */
+public interface TalentFieldsRepository {
+    /**
+     * Find page of talents from newest with requested columns
+     *
+     * @param fields requested fields, fields which are not columns are ignored
+     * @param pageable page, sort of pageable is ignored
+     *
+     * @return values by JSON name of field
+     * */
+    List<Map<String, Object>> findFieldsPage(Set<TalentField> fields, Pageable pageable);
+
+    /**
+     * Find requested columns of one talent
+     *
+     * @param id talent id
+     * @param fields requested fields, fields which are not columns are ignored
+     *
+     * @return values by JSON name of field
+     * */
+    Optional<Map<String, Object>> findFieldsById(Long id, Set<TalentField> fields);
+}
@@ -0,0 +1,63 @@
+package com.example.backend.talent.repository;
+
+import com.example.backend.talent.model.TalentField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Pageable;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+public class TalentFieldsRepositoryImpl implements TalentFieldsRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findFieldsPage(Set<TalentField> fields, Pageable pageable) {
+        List<TalentField> columns = columns(fields);
+        TypedQuery<Tuple> query = entityManager.createQuery(
+                "select " + select(columns) + " from Talent t order by t.id desc", Tuple.class);
+        query.setFirstResult(Math.toIntExact(pageable.getOffset()));
+        query.setMaxResults(pageable.getPageSize());
+        return query.getResultStream()
+                .map(tuple -> toMap(columns, tuple))
+                .toList();
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findFieldsById(Long id, Set<TalentField> fields) {
+        List<TalentField> columns = columns(fields);
+        return entityManager.createQuery(
+                        "select " + select(columns) + " from Talent t where t.id = :id", Tuple.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst()
+                .map(tuple -> toMap(columns, tuple));
+    }
+
+    private static List<TalentField> columns(Set<TalentField> fields) {
+        /* id is always selected, it is needed to attach skills */
+        List<TalentField> columns = new ArrayList<>(List.of(TalentField.ID));
+        fields.stream()
+                .filter(field -> field.isColumn() && field != TalentField.ID)
+                .forEach(columns::add);
+        return columns;
+    }
+
+    /* attribute names come from the enum, so nothing from the request is concatenated into the query */
+    private static String select(List<TalentField> columns) {
+        return columns.stream()
+                .map(field -> "t." + field.getAttribute())
+                .collect(Collectors.joining(", "));
+    }
+
+    private static Map<String, Object> toMap(List<TalentField> columns, Tuple tuple) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            values.put(columns.get(i).getJsonName(), tuple.get(i));
+        }
+        return values;
+    }
+}
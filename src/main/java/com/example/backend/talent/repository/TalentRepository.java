@@ -1,19 +1,102 @@
 package com.example.backend.talent.repository;
 
+import com.example.backend.talent.model.TalentChangeMarker;
 import com.example.backend.talent.model.entity.Talent;
+import com.example.backend.talent.model.response.TalentGeneralInfo;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TalentRepository extends JpaRepository<Talent, Long> {
-    boolean existsByEmailIgnoreCase(String email);
+public interface TalentRepository extends JpaRepository<Talent, Long>, TalentFieldsRepository {
+    boolean existsByNormalizedEmail(String normalizedEmail);
+
+    boolean existsByIdLessThan(Long id);
 
     Optional<Talent> findByEmail(String email);
 
-    Page<Talent> findAllByOrderByIdDesc(Pageable pageable);
+    @Query("select t.normalizedEmail from Talent t where t.normalizedEmail in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> normalizedEmails);
+
+    @Query("select t.normalizedEmail from Talent t where t.normalizedEmail is not null")
+    Stream<String> streamAllNormalizedEmails();
+
+    @Query(value = "select new com.example.backend.talent.model.response.TalentGeneralInfo(" +
+            "t.id, t.lastname, t.firstname, t.avatar, t.banner) from Talent t order by t.id desc",
+            countQuery = "select count(t) from Talent t")
+    Page<TalentGeneralInfo> findGeneralInfos(Pageable pageable);
+
+    @Query("select new com.example.backend.talent.model.response.TalentGeneralInfo(" +
+            "t.id, t.lastname, t.firstname, t.avatar, t.banner) from Talent t where t.id < :id order by t.id desc")
+    List<TalentGeneralInfo> findGeneralInfosByIdLessThan(@Param("id") Long id, Pageable pageable);
+
+    @Query("select new com.example.backend.talent.model.response.TalentGeneralInfo(" +
+            "t.id, t.lastname, t.firstname, t.avatar, t.banner) from Talent t where t.id > :id order by t.id asc")
+    List<TalentGeneralInfo> findGeneralInfosByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
+    @Query("select new com.example.backend.talent.model.response.TalentGeneralInfo(" +
+            "t.id, t.lastname, t.firstname, t.avatar, t.banner) from Talent t where t.id in :ids")
+    List<TalentGeneralInfo> findGeneralInfosByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select t.id, s from Talent t join t.skills s where t.id in :ids")
+    List<Object[]> findSkillsByTalentIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select t.id, s from Talent t join t.skills s")
+    Stream<Object[]> streamAllSkills();
+
+    @Query("select t.id, t.firstname, t.lastname, t.location, t.aboutMe from Talent t")
+    Stream<Object[]> streamAllSearchableText();
+
+    @Query("select t.version from Talent t where t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("select new com.example.backend.talent.model.TalentChangeMarker(count(t), max(t.id), sum(t.version)) " +
+            "from Talent t")
+    TalentChangeMarker findChangeMarker();
+
+    @Query("select t.id, t.normalizedEmail from Talent t where t.id > :id and t.normalizedEmail is not null order by t.id")
+    List<Object[]> findNormalizedEmailsByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
+    @Query("select t.id from Talent t where t.id > :id order by t.id")
+    List<Long> findIdsByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
+    @Query("select t from Talent t left join fetch t.skills where t.id in :ids order by t.id")
+    List<Talent> findWithSkillsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Load chunk of talents for export with their skills: ids are read first, then talents
+     * with a fetch join, so every chunk costs two queries whatever the number of skills
+     *
+     * @param lastId id of the last exported talent
+     * @param size max number of talents in chunk
+     *
+     * @return talents ordered by id, empty when no talents are left
+     * */
+    default List<Talent> findExportChunk(Long lastId, int size) {
+        List<Long> ids = findIdsByIdGreaterThan(lastId, PageRequest.of(0, size));
+        return ids.isEmpty() ? List.of() : findWithSkillsByIdIn(ids);
+    }
+
+    @Transactional
+    @Modifying
+    @Query("update Talent t set t.password = :newPassword where t.id = :id and t.password = :oldPassword")
+    int updatePassword(@Param("id") Long id,
+                       @Param("oldPassword") String oldPassword,
+                       @Param("newPassword") String newPassword);
+
+    @Modifying
+    @Query("delete from Talent t where t.id = :id and t.email = :email")
+    int deleteByIdAndEmail(@Param("id") Long id, @Param("email") String email);
 }
 
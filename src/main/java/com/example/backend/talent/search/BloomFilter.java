@@ -0,0 +1,80 @@
+package com.example.backend.talent.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ *  Concurrent Bloom filter of strings.
+ *  Bits are only ever set, so readers and writers need no lock: a reader may miss a value added at the same moment,
+ *  but never misses a value whose put has returned
+ *
+ * */
+class BloomFilter {
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final long capacity;
+
+    /**
+     * @param expectedInsertions number of values filter is sized for
+     * @param falsePositiveRate expected false positive rate at that size
+     * */
+    BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long insertions = Math.max(expectedInsertions, 1);
+        long optimalBits = (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, Math.max((optimalBits + 63) / 64, 1));
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / insertions * LN2));
+        this.capacity = insertions;
+    }
+
+    void put(String value) {
+        long hash = hash(value);
+        int step = (int) (hash >>> 32) | 1;
+        int base = (int) hash;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Integer.toUnsignedLong(base + i * step) % bitCount;
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash(value);
+        int step = (int) (hash >>> 32) | 1;
+        int base = (int) hash;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Integer.toUnsignedLong(base + i * step) % bitCount;
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long getCapacity() {
+        return capacity;
+    }
+
+    /* 64-bit FNV-1a over UTF-8 bytes with a final avalanche, halves are used for double hashing */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.backend.talent.search;
+
+import com.example.backend.talent.event.TalentChangedEvent;
+import com.example.backend.talent.event.TalentsImportedEvent;
+import com.example.backend.talent.model.entity.Talent;
+import com.example.backend.talent.repository.TalentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ *  Bloom filter of normalized emails of registered talents.
+ *  Email that is not in the filter is surely free, so most availability checks never reach the database.
+ *  Registered emails are added after commit, deleted ones stay in the filter as false positives
+ *  until it is rebuilt, which happens when deletes or new emails outgrow the size of the filter.
+ *  Events are published only on the node which made the change, so emails registered on other nodes
+ *  are read from the database by id every refresh interval: until then this node may answer that they are free
+ *
+ * */
+@Slf4j
+@Component
+public class RegisteredEmailFilter {
+    private static final int REFRESH_BATCH_SIZE = 1000;
+
+    private final TalentRepository talentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final double falsePositiveRate;
+    private final long minCapacity;
+    private final double rebuildAfterDeletes;
+
+    private final AtomicLong insertions = new AtomicLong();
+    private final AtomicLong deletions = new AtomicLong();
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuildingFilter;
+    private long refreshFromId;
+    private long lastSeenId;
+
+    public RegisteredEmailFilter(TalentRepository talentRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${talent.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                                 @Value("${talent.email-filter.min-capacity:10000}") long minCapacity,
+                                 @Value("${talent.email-filter.rebuild-after-deletes:0.1}") double rebuildAfterDeletes) {
+        this.talentRepository = talentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.falsePositiveRate = falsePositiveRate;
+        this.minCapacity = minCapacity;
+        this.rebuildAfterDeletes = rebuildAfterDeletes;
+    }
+
+    /**
+     * Build filter from all registered emails.
+     * Emails registered while it is built are added to both old and new filter, so none of them is lost
+     * */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long count = talentRepository.count();
+        long maxId = talentRepository.findChangeMarker().maxId();
+        BloomFilter newFilter = new BloomFilter(Math.max(minCapacity, count * 2), falsePositiveRate);
+        rebuildingFilter = newFilter;
+        AtomicLong added = new AtomicLong();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<String> emails = talentRepository.streamAllNormalizedEmails()) {
+                emails.forEach(email -> {
+                    newFilter.put(email);
+                    added.incrementAndGet();
+                });
+            }
+        });
+
+        insertions.set(added.get());
+        deletions.set(0);
+        refreshFromId = maxId;
+        lastSeenId = maxId;
+        filter = newFilter;
+        rebuildingFilter = null;
+        log.info("Registered email filter was built for {} emails", added.get());
+    }
+
+    /**
+     * Check if email may be registered
+     *
+     * @param email email
+     *
+     * @return false if email is surely not registered, true if it may be registered or filter is not built yet
+     * */
+    public boolean mightContain(String email) {
+        BloomFilter currentFilter = filter;
+        return currentFilter == null || currentFilter.mightContain(Talent.normalizeEmail(email));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTalentChanged(TalentChangedEvent event) {
+        if (event.changeType() == TalentChangedEvent.ChangeType.DELETED) {
+            deletions.incrementAndGet();
+            return;
+        }
+        if (event.talent() == null || event.talent().getEmail() == null) {
+            return;
+        }
+        put(event.talent().getEmail());
+        if (event.changeType() == TalentChangedEvent.ChangeType.CREATED) {
+            insertions.incrementAndGet();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTalentsImported(TalentsImportedEvent event) {
+        for (Talent talent : event.talents()) {
+            if (talent.getEmail() != null) {
+                put(talent.getEmail());
+                insertions.incrementAndGet();
+            }
+        }
+    }
+
+    private void put(String email) {
+        String normalizedEmail = Talent.normalizeEmail(email);
+        BloomFilter newFilter = rebuildingFilter;
+        if (newFilter != null) {
+            newFilter.put(normalizedEmail);
+        }
+        BloomFilter currentFilter = filter;
+        if (currentFilter != null) {
+            currentFilter.put(normalizedEmail);
+        }
+    }
+
+    /**
+     * Add emails registered on other nodes.
+     * Ids are allocated before commit, so a registration may become visible after one with a greater id;
+     * every refresh reads again the rows after the last id seen by the previous one to catch such registrations
+     * */
+    @Scheduled(fixedDelayString = "${talent.email-filter.refresh-interval-ms:5000}")
+    public synchronized void refresh() {
+        if (filter == null) {
+            return;
+        }
+        long id = refreshFromId;
+        long maxId = lastSeenId;
+        List<Object[]> rows;
+        do {
+            rows = talentRepository.findNormalizedEmailsByIdGreaterThan(id, PageRequest.of(0, REFRESH_BATCH_SIZE));
+            for (Object[] row : rows) {
+                id = (Long) row[0];
+                put((String) row[1]);
+                if (id > lastSeenId) {
+                    insertions.incrementAndGet();
+                }
+                maxId = Math.max(maxId, id);
+            }
+        } while (rows.size() == REFRESH_BATCH_SIZE);
+        refreshFromId = lastSeenId;
+        lastSeenId = maxId;
+    }
+
+    @Scheduled(fixedDelayString = "${talent.email-filter.check-interval-ms:60000}")
+    public void rebuildIfOutgrown() {
+        BloomFilter currentFilter = filter;
+        if (currentFilter == null) {
+            return;
+        }
+        if (insertions.get() > currentFilter.getCapacity()
+                || deletions.get() > Math.max(1, insertions.get()) * rebuildAfterDeletes) {
+            rebuild();
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.backend.talent.search;
+
+import com.example.backend.talent.event.TalentChangedEvent;
+import com.example.backend.talent.event.TalentsImportedEvent;
+import com.example.backend.talent.repository.TalentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ *  In-memory inverted index from normalized skill to sorted ids of talents.
+ *  It is built once on startup and then updated by talent change events,
+ *  so skill search never scans the talent table.
+ *  Skills of every talent are kept too, so a change copies only postings of skills that were added or removed
+ *
+ * */
+@Component
+@RequiredArgsConstructor
+public class SkillIndex {
+    private final TalentRepository talentRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, SortedIds> talentsBySkill = new HashMap<>();
+    private Map<Long, String[]> skillsByTalent = new HashMap<>();
+
+    /**
+     * Build index from all talent skills stored in database
+     * */
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Map<String, SortedIds.Builder> builders = new HashMap<>();
+        Map<String, String> distinctSkills = new HashMap<>();
+        Map<Long, List<String>> skillLists = new HashMap<>();
+        try (Stream<Object[]> skills = talentRepository.streamAllSkills()) {
+            skills.forEach(row -> {
+                String normalizedSkill = normalize((String) row[1]);
+                if (normalizedSkill.isEmpty()) {
+                    return;
+                }
+                /* talents share skills, so one instance of every skill is kept for all of them */
+                String skill = distinctSkills.computeIfAbsent(normalizedSkill, Function.identity());
+                builders.computeIfAbsent(skill, key -> new SortedIds.Builder()).add((Long) row[0]);
+                skillLists.computeIfAbsent((Long) row[0], key -> new ArrayList<>(4)).add(skill);
+            });
+        }
+        Map<String, SortedIds> index = new HashMap<>();
+        builders.forEach((skill, builder) -> index.put(skill, builder.build()));
+        Map<Long, String[]> skillsOfTalents = new HashMap<>();
+        skillLists.forEach((talentId, skills) -> skillsOfTalents.put(talentId, skills.stream().distinct().toArray(String[]::new)));
+
+        lock.writeLock().lock();
+        try {
+            talentsBySkill = index;
+            skillsByTalent = skillsOfTalents;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTalentChanged(TalentChangedEvent event) {
+        Map<Long, String[]> changes = new HashMap<>();
+        changes.put(event.talentId(), event.talent() == null ? null : normalizeAll(event.talent().getSkills()));
+        apply(changes);
+    }
+
+    @TransactionalEventListener
+    public void onTalentsImported(TalentsImportedEvent event) {
+        Map<Long, String[]> changes = new HashMap<>();
+        event.talents().forEach(talent -> changes.put(talent.getId(), normalizeAll(talent.getSkills())));
+        apply(changes);
+    }
+
+    /**
+     * Find talents by skills ranked by number of matched skills, then by id from newest.
+     * Postings are immutable, so they are read after the lock is released without copying them
+     *
+     * @param skills requested skills
+     * @param mode match all or any of requested skills
+     *
+     * @return ranked talent ids
+     * */
+    public List<Long> search(Collection<String> skills, SkillMatchMode mode) {
+        Set<String> normalizedSkills = new HashSet<>();
+        for (String skill : skills) {
+            String normalizedSkill = normalize(skill);
+            if (!normalizedSkill.isEmpty()) {
+                normalizedSkills.add(normalizedSkill);
+            }
+        }
+        if (normalizedSkills.isEmpty()) {
+            return List.of();
+        }
+
+        List<SortedIds> postings = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (String skill : normalizedSkills) {
+                SortedIds talents = talentsBySkill.get(skill);
+                if (talents != null) {
+                    postings.add(talents);
+                } else if (mode == SkillMatchMode.ALL) {
+                    return List.of();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (postings.isEmpty()) {
+            return List.of();
+        }
+
+        if (mode == SkillMatchMode.ALL) {
+            long[] matched = SortedIds.intersect(postings);
+            List<Long> ids = new ArrayList<>(matched.length);
+            for (int i = matched.length - 1; i >= 0; i--) {
+                ids.add(matched[i]);
+            }
+            return ids;
+        }
+        return rank(SortedIds.count(postings), postings.size());
+    }
+
+    private static List<Long> rank(SortedIds.Counts matched, int skillCount) {
+        long[] matchedIds = matched.ids();
+        int[] scores = matched.counts();
+
+        /* bucket ids by number of matched skills, every bucket is filled from newest */
+        List<List<Long>> buckets = new ArrayList<>();
+        for (int i = 0; i <= skillCount; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        for (int i = matchedIds.length - 1; i >= 0; i--) {
+            buckets.get(scores[i]).add(matchedIds[i]);
+        }
+        List<Long> ids = new ArrayList<>(matchedIds.length);
+        for (int score = skillCount; score > 0; score--) {
+            ids.addAll(buckets.get(score));
+        }
+        return ids;
+    }
+
+    /**
+     * Replace skills of talents, every affected posting is copied once for all of them
+     *
+     * @param changes new normalized skills by talent id, null for deleted talent
+     * */
+    private void apply(Map<Long, String[]> changes) {
+        lock.writeLock().lock();
+        try {
+            Map<String, SortedIds.Builder> added = new HashMap<>();
+            Map<String, SortedIds.Builder> removed = new HashMap<>();
+            changes.forEach((talentId, newSkills) -> {
+                String[] oldSkills = newSkills == null || newSkills.length == 0
+                        ? skillsByTalent.remove(talentId) : skillsByTalent.put(talentId, newSkills);
+                diff(talentId, oldSkills, newSkills, removed);
+                diff(talentId, newSkills, oldSkills, added);
+            });
+
+            Set<String> affectedSkills = new HashSet<>(added.keySet());
+            affectedSkills.addAll(removed.keySet());
+            for (String skill : affectedSkills) {
+                SortedIds talents = talentsBySkill.getOrDefault(skill, SortedIds.EMPTY).update(
+                        build(added.get(skill)), build(removed.get(skill)));
+                if (talents.isEmpty()) {
+                    talentsBySkill.remove(skill);
+                } else {
+                    talentsBySkill.put(skill, talents);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /* collect talent id under every skill which is in the first array but not in the second one */
+    private static void diff(Long talentId, String[] skills, String[] otherSkills, Map<String, SortedIds.Builder> target) {
+        if (skills == null) {
+            return;
+        }
+        for (String skill : skills) {
+            if (otherSkills == null || !Arrays.asList(otherSkills).contains(skill)) {
+                target.computeIfAbsent(skill, key -> new SortedIds.Builder()).add(talentId);
+            }
+        }
+    }
+
+    private static SortedIds build(SortedIds.Builder builder) {
+        return builder == null ? SortedIds.EMPTY : builder.build();
+    }
+
+    private static String[] normalizeAll(Collection<String> skills) {
+        if (skills == null) {
+            return new String[0];
+        }
+        return skills.stream()
+                .map(SkillIndex::normalize)
+                .filter(skill -> !skill.isEmpty())
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    public static String normalize(String skill) {
+        return skill == null ? "" : skill.trim().toLowerCase(Locale.ROOT);
+    }
+}
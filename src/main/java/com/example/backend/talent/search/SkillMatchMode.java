@@ -0,0 +1,20 @@
+package com.example.backend.talent.search;
+
+import com.example.backend.talent.exception.InvalidSearchRequestException;
+
+import java.util.Locale;
+
+public enum SkillMatchMode {
+    /* talent has every requested skill */
+    ALL,
+    /* talent has at least one requested skill */
+    ANY;
+
+    public static SkillMatchMode fromValue(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSearchRequestException("Search mode should be one of [all, any]");
+        }
+    }
+}
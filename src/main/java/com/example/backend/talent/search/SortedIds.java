@@ -0,0 +1,252 @@
+package com.example.backend.talent.search;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ *  Immutable set of talent ids kept as a sorted array, used as posting list of search indexes.
+ *  A change returns a new set instead of mutating this one, so readers may keep a reference
+ *  after releasing the index lock without copying it
+ *
+ * */
+final class SortedIds {
+    static final SortedIds EMPTY = new SortedIds(new long[0]);
+
+    private final long[] ids;
+
+    private SortedIds(long[] ids) {
+        this.ids = ids;
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    long get(int index) {
+        return ids[index];
+    }
+
+    boolean contains(long id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    SortedIds with(long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index >= 0) {
+            return this;
+        }
+        int insertAt = -index - 1;
+        long[] copy = new long[ids.length + 1];
+        System.arraycopy(ids, 0, copy, 0, insertAt);
+        copy[insertAt] = id;
+        System.arraycopy(ids, insertAt, copy, insertAt + 1, ids.length - insertAt);
+        return new SortedIds(copy);
+    }
+
+    SortedIds without(long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index < 0) {
+            return this;
+        }
+        if (ids.length == 1) {
+            return EMPTY;
+        }
+        long[] copy = new long[ids.length - 1];
+        System.arraycopy(ids, 0, copy, 0, index);
+        System.arraycopy(ids, index + 1, copy, index, ids.length - index - 1);
+        return new SortedIds(copy);
+    }
+
+    /**
+     * Set with added ids and without removed ones, built with a single copy of this set,
+     * so a batch of changes to one posting costs as much as one change
+     *
+     * @param added ids to add
+     * @param removed ids to remove, they win over added ones
+     *
+     * @return changed set, this set if nothing changed
+     * */
+    SortedIds update(SortedIds added, SortedIds removed) {
+        if (added.isEmpty() && removed.isEmpty()) {
+            return this;
+        }
+        long[] addedIds = added.ids;
+        long[] removedIds = removed.ids;
+        long[] result = new long[ids.length + addedIds.length];
+        int i = 0;
+        int a = 0;
+        int r = 0;
+        int size = 0;
+        while (i < ids.length || a < addedIds.length) {
+            long next;
+            if (a == addedIds.length || (i < ids.length && ids[i] < addedIds[a])) {
+                next = ids[i++];
+            } else if (i == ids.length || addedIds[a] < ids[i]) {
+                next = addedIds[a++];
+            } else {
+                next = ids[i++];
+                a++;
+            }
+            while (r < removedIds.length && removedIds[r] < next) {
+                r++;
+            }
+            if (r < removedIds.length && removedIds[r] == next) {
+                continue;
+            }
+            result[size++] = next;
+        }
+        if (size == 0) {
+            return EMPTY;
+        }
+        return new SortedIds(size == result.length ? result : Arrays.copyOf(result, size));
+    }
+
+    /**
+     * Ids present in every set. The smallest set drives the walk,
+     * others are probed by binary search from the last matched position
+     *
+     * @param sets sets to intersect
+     *
+     * @return sorted ids
+     * */
+    static long[] intersect(List<SortedIds> sets) {
+        if (sets.isEmpty()) {
+            return new long[0];
+        }
+        List<SortedIds> bySize = new ArrayList<>(sets);
+        bySize.sort(Comparator.comparingInt(SortedIds::size));
+
+        long[] smallest = bySize.get(0).ids;
+        long[] matched = new long[smallest.length];
+        int[] from = new int[bySize.size()];
+        int count = 0;
+        candidates:
+        for (long id : smallest) {
+            for (int i = 1; i < bySize.size(); i++) {
+                long[] other = bySize.get(i).ids;
+                int index = Arrays.binarySearch(other, from[i], other.length, id);
+                if (index < 0) {
+                    from[i] = -index - 1;
+                    continue candidates;
+                }
+                from[i] = index + 1;
+            }
+            matched[count++] = id;
+        }
+        return Arrays.copyOf(matched, count);
+    }
+
+    /**
+     * Ids present in at least one set with number of sets containing each of them
+     *
+     * @param sets sets to unite
+     *
+     * @return sorted ids and their counts
+     * */
+    static Counts count(List<SortedIds> sets) {
+        int total = 0;
+        for (SortedIds set : sets) {
+            total += set.size();
+        }
+        long[] all = new long[total];
+        int offset = 0;
+        for (SortedIds set : sets) {
+            System.arraycopy(set.ids, 0, all, offset, set.size());
+            offset += set.size();
+        }
+        Arrays.sort(all);
+
+        long[] ids = new long[total];
+        int[] counts = new int[total];
+        int size = 0;
+        for (int i = 0; i < total; ) {
+            int next = i + 1;
+            while (next < total && all[next] == all[i]) {
+                next++;
+            }
+            ids[size] = all[i];
+            counts[size] = next - i;
+            size++;
+            i = next;
+        }
+        return new Counts(Arrays.copyOf(ids, size), Arrays.copyOf(counts, size));
+    }
+
+    /**
+     * Write ids as variable-length deltas between neighbours, dense postings take one or two bytes per id
+     * */
+    void writeTo(DataOutput output) throws IOException {
+        output.writeInt(ids.length);
+        long previous = 0;
+        for (long id : ids) {
+            long delta = id - previous;
+            while ((delta & ~0x7FL) != 0) {
+                output.writeByte((int) (delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            output.writeByte((int) delta);
+            previous = id;
+        }
+    }
+
+    static SortedIds readFrom(DataInput input) throws IOException {
+        long[] ids = new long[input.readInt()];
+        long previous = 0;
+        for (int i = 0; i < ids.length; i++) {
+            long delta = 0;
+            int shift = 0;
+            int next;
+            do {
+                next = input.readUnsignedByte();
+                delta |= (long) (next & 0x7F) << shift;
+                shift += 7;
+            } while ((next & 0x80) != 0);
+            previous += delta;
+            ids[i] = previous;
+        }
+        return ids.length == 0 ? EMPTY : new SortedIds(ids);
+    }
+
+    record Counts(long[] ids, int[] counts) {
+    }
+
+    /**
+     * Collects ids in any order for bulk index builds, so building does not copy a set per id
+     * */
+    static final class Builder {
+        private long[] ids = new long[4];
+        private int size;
+
+        Builder add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+            return this;
+        }
+
+        SortedIds build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            long[] sorted = Arrays.copyOf(ids, size);
+            Arrays.sort(sorted);
+            int unique = 1;
+            for (int i = 1; i < sorted.length; i++) {
+                if (sorted[i] != sorted[unique - 1]) {
+                    sorted[unique++] = sorted[i];
+                }
+            }
+            return new SortedIds(unique == sorted.length ? sorted : Arrays.copyOf(sorted, unique));
+        }
+    }
+}
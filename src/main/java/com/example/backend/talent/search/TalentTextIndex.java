@@ -0,0 +1,540 @@
+package com.example.backend.talent.search;
+
+import com.example.backend.talent.event.TalentChangedEvent;
+import com.example.backend.talent.event.TalentsImportedEvent;
+import com.example.backend.talent.model.TalentChangeMarker;
+import com.example.backend.talent.model.entity.Talent;
+import com.example.backend.talent.repository.TalentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ *  Embedded full-text index over talent names, location and about me.
+ *  Words are split into trigrams once at index time, trigram postings are sorted arrays of talent ids.
+ *  Candidates sharing enough trigrams with the query are scored by exact, prefix
+ *  and fuzzy (trigram similarity) word matches, only top results are kept.
+ *  Index can be saved to local disk on shutdown and loaded on startup instead of re-reading all profiles
+ *
+ * */
+@Slf4j
+@Component
+public class TalentTextIndex {
+    private static final int SNAPSHOT_FORMAT = 3;
+    private static final float NAME_WEIGHT = 2.0f;
+    private static final float LOCATION_WEIGHT = 1.5f;
+    private static final float ABOUT_ME_WEIGHT = 1.0f;
+    private static final double PREFIX_SCORE = 0.9;
+    private static final double FUZZY_SCORE = 0.8;
+    private static final double MIN_SIMILARITY = 0.4;
+    private static final double MIN_SHARED_TRIGRAMS = 0.3;
+    private static final int MAX_QUERY_WORDS = 8;
+    private static final int MAX_CANDIDATES = 10_000;
+
+    private final TalentRepository talentRepository;
+    private final String snapshotPath;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, IndexedWord[]> wordsByTalent = new HashMap<>();
+    private final Map<String, SortedIds> talentsByTrigram = new HashMap<>();
+
+    public TalentTextIndex(TalentRepository talentRepository,
+                           @Value("${talent.search.text.snapshot-path:}") String snapshotPath) {
+        this.talentRepository = talentRepository;
+        this.snapshotPath = snapshotPath;
+    }
+
+    /**
+     * Load index from snapshot if it matches the database, otherwise build it from all talents
+     * */
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (loadSnapshot()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            clear();
+            /* talents share many words, so trigrams of every distinct word are computed and kept once */
+            Map<String, String[]> trigramsByWord = new HashMap<>();
+            Map<String, SortedIds.Builder> builders = new HashMap<>();
+            try (Stream<Object[]> talents = talentRepository.streamAllSearchableText()) {
+                talents.forEach(row -> {
+                    Long talentId = (Long) row[0];
+                    IndexedWord[] words = tokenize((String) row[1], (String) row[2], (String) row[3], (String) row[4],
+                            word -> trigramsByWord.computeIfAbsent(word, TalentTextIndex::wordTrigrams));
+                    wordsByTalent.put(talentId, words);
+                    for (IndexedWord word : words) {
+                        for (String trigram : word.trigrams()) {
+                            builders.computeIfAbsent(trigram, key -> new SortedIds.Builder()).add(talentId);
+                        }
+                    }
+                });
+            }
+            builders.forEach((trigram, builder) -> talentsByTrigram.put(trigram, builder.build()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTalentChanged(TalentChangedEvent event) {
+        Map<Long, IndexedWord[]> changes = new HashMap<>();
+        changes.put(event.talentId(), event.talent() == null ? null : tokenize(event.talent()));
+        apply(changes);
+    }
+
+    @TransactionalEventListener
+    public void onTalentsImported(TalentsImportedEvent event) {
+        Map<Long, IndexedWord[]> changes = new HashMap<>();
+        event.talents().forEach(talent -> changes.put(talent.getId(), tokenize(talent)));
+        apply(changes);
+    }
+
+    /**
+     * Find top matches of query which go after the cursor match
+     *
+     * @param query free text query
+     * @param after last match of previous page or null for first page
+     * @param limit max number of matches
+     *
+     * @return matches ordered by relevance
+     * */
+    public List<TextMatch> search(String query, TextMatch after, int limit) {
+        List<String> queryWords = splitWords(query).stream().distinct().limit(MAX_QUERY_WORDS).toList();
+        if (queryWords.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        List<Set<String>> queryTrigrams = queryWords.stream().map(TalentTextIndex::trigrams).toList();
+
+        /* min-heap of the best matches seen so far, its head is the worst of them */
+        PriorityQueue<TextMatch> top = new PriorityQueue<>(limit + 1, Comparator.reverseOrder());
+        lock.readLock().lock();
+        try {
+            for (long talentId : findCandidates(queryTrigrams)) {
+                double score = score(queryWords, queryTrigrams, wordsByTalent.get(talentId));
+                if (score <= 0) {
+                    continue;
+                }
+                TextMatch match = new TextMatch(talentId, score);
+                if (after != null && match.compareTo(after) <= 0) {
+                    continue;
+                }
+                top.offer(match);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<TextMatch> matches = new ArrayList<>(top);
+        Collections.sort(matches);
+        return matches;
+    }
+
+    /**
+     * Talents sharing enough trigrams with at least one query word.
+     * When there are too many of them, only those sharing the most trigrams are scored
+     *
+     * @param queryTrigrams trigrams of every query word
+     *
+     * @return candidate talent ids
+     * */
+    private long[] findCandidates(List<Set<String>> queryTrigrams) {
+        SortedIds.Counts candidates = new SortedIds.Counts(new long[0], new int[0]);
+        for (Set<String> trigrams : queryTrigrams) {
+            List<SortedIds> postings = new ArrayList<>(trigrams.size());
+            for (String trigram : trigrams) {
+                SortedIds talents = talentsByTrigram.get(trigram);
+                if (talents != null) {
+                    postings.add(talents);
+                }
+            }
+            int minShared = Math.max(1, (int) Math.ceil(trigrams.size() * MIN_SHARED_TRIGRAMS));
+            candidates = merge(candidates, atLeast(SortedIds.count(postings), minShared));
+        }
+        return mostShared(candidates, MAX_CANDIDATES);
+    }
+
+    private static SortedIds.Counts atLeast(SortedIds.Counts shared, int minShared) {
+        long[] ids = new long[shared.ids().length];
+        int[] counts = new int[ids.length];
+        int size = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (shared.counts()[i] >= minShared) {
+                ids[size] = shared.ids()[i];
+                counts[size] = shared.counts()[i];
+                size++;
+            }
+        }
+        return new SortedIds.Counts(Arrays.copyOf(ids, size), Arrays.copyOf(counts, size));
+    }
+
+    /**
+     * Union of two sorted id lists summing counts of ids present in both
+     * */
+    private static SortedIds.Counts merge(SortedIds.Counts first, SortedIds.Counts second) {
+        long[] firstIds = first.ids();
+        long[] secondIds = second.ids();
+        long[] ids = new long[firstIds.length + secondIds.length];
+        int[] counts = new int[ids.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < firstIds.length || j < secondIds.length) {
+            if (j == secondIds.length || (i < firstIds.length && firstIds[i] < secondIds[j])) {
+                ids[size] = firstIds[i];
+                counts[size++] = first.counts()[i++];
+            } else if (i == firstIds.length || secondIds[j] < firstIds[i]) {
+                ids[size] = secondIds[j];
+                counts[size++] = second.counts()[j++];
+            } else {
+                ids[size] = firstIds[i];
+                counts[size++] = first.counts()[i++] + second.counts()[j++];
+            }
+        }
+        return new SortedIds.Counts(Arrays.copyOf(ids, size), Arrays.copyOf(counts, size));
+    }
+
+    /**
+     * Ids with the highest counts, ties at the cut are taken from newest
+     * */
+    private static long[] mostShared(SortedIds.Counts candidates, int max) {
+        long[] ids = candidates.ids();
+        int[] counts = candidates.counts();
+        if (ids.length <= max) {
+            return ids;
+        }
+        int maxCount = 0;
+        for (int count : counts) {
+            maxCount = Math.max(maxCount, count);
+        }
+        int[] histogram = new int[maxCount + 1];
+        for (int count : counts) {
+            histogram[count]++;
+        }
+        int threshold = maxCount;
+        int above = 0;
+        while (above + histogram[threshold] < max) {
+            above += histogram[threshold--];
+        }
+        int tiesLeft = max - above;
+
+        long[] selected = new long[max];
+        int size = 0;
+        for (int i = ids.length - 1; i >= 0; i--) {
+            if (counts[i] > threshold || (counts[i] == threshold && tiesLeft-- > 0)) {
+                selected[size++] = ids[i];
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Sum of best weighted matches of every query word among talent words
+     * */
+    private static double score(List<String> queryWords, List<Set<String>> queryTrigrams, IndexedWord[] talentWords) {
+        if (talentWords == null) {
+            return 0;
+        }
+        double score = 0;
+        for (int i = 0; i < queryWords.size(); i++) {
+            String queryWord = queryWords.get(i);
+            double best = 0;
+            for (IndexedWord talentWord : talentWords) {
+                double wordScore;
+                if (talentWord.word().equals(queryWord)) {
+                    wordScore = 1.0;
+                } else if (talentWord.word().startsWith(queryWord)) {
+                    wordScore = PREFIX_SCORE;
+                } else {
+                    double similarity = similarity(queryTrigrams.get(i), talentWord.trigrams());
+                    wordScore = similarity >= MIN_SIMILARITY ? FUZZY_SCORE * similarity : 0;
+                }
+                best = Math.max(best, wordScore * talentWord.weight());
+            }
+            score += best;
+        }
+        return score;
+    }
+
+    private static double similarity(Set<String> queryTrigrams, String[] wordTrigrams) {
+        int shared = 0;
+        for (String trigram : wordTrigrams) {
+            if (queryTrigrams.contains(trigram)) {
+                shared++;
+            }
+        }
+        return 2.0 * shared / (queryTrigrams.size() + wordTrigrams.length);
+    }
+
+    /**
+     * Replace words of talents. Only postings of trigrams a talent gained or lost change,
+     * and every such posting is copied once for all talents of the batch
+     *
+     * @param changes new words by talent id, null for deleted talent
+     * */
+    private void apply(Map<Long, IndexedWord[]> changes) {
+        lock.writeLock().lock();
+        try {
+            Map<String, SortedIds.Builder> added = new HashMap<>();
+            Map<String, SortedIds.Builder> removed = new HashMap<>();
+            changes.forEach((talentId, newWords) -> {
+                IndexedWord[] oldWords = newWords == null
+                        ? wordsByTalent.remove(talentId) : wordsByTalent.put(talentId, newWords);
+                Set<String> oldTrigrams = trigramsOf(oldWords);
+                Set<String> newTrigrams = trigramsOf(newWords);
+                for (String trigram : oldTrigrams) {
+                    if (!newTrigrams.contains(trigram)) {
+                        removed.computeIfAbsent(trigram, key -> new SortedIds.Builder()).add(talentId);
+                    }
+                }
+                for (String trigram : newTrigrams) {
+                    if (!oldTrigrams.contains(trigram)) {
+                        added.computeIfAbsent(trigram, key -> new SortedIds.Builder()).add(talentId);
+                    }
+                }
+            });
+
+            Set<String> affectedTrigrams = new HashSet<>(added.keySet());
+            affectedTrigrams.addAll(removed.keySet());
+            for (String trigram : affectedTrigrams) {
+                SortedIds.Builder addedTalents = added.get(trigram);
+                SortedIds.Builder removedTalents = removed.get(trigram);
+                SortedIds talents = talentsByTrigram.getOrDefault(trigram, SortedIds.EMPTY).update(
+                        addedTalents == null ? SortedIds.EMPTY : addedTalents.build(),
+                        removedTalents == null ? SortedIds.EMPTY : removedTalents.build());
+                if (talents.isEmpty()) {
+                    talentsByTrigram.remove(trigram);
+                } else {
+                    talentsByTrigram.put(trigram, talents);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Set<String> trigramsOf(IndexedWord[] words) {
+        if (words == null) {
+            return Set.of();
+        }
+        Set<String> trigrams = new HashSet<>();
+        for (IndexedWord word : words) {
+            Collections.addAll(trigrams, word.trigrams());
+        }
+        return trigrams;
+    }
+
+    private void clear() {
+        wordsByTalent.clear();
+        talentsByTrigram.clear();
+    }
+
+    private static IndexedWord[] tokenize(Talent talent) {
+        return tokenize(talent.getFirstname(), talent.getLastname(), talent.getLocation(), talent.getAboutMe(),
+                TalentTextIndex::wordTrigrams);
+    }
+
+    private static IndexedWord[] tokenize(String firstname, String lastname, String location, String aboutMe,
+                                          Function<String, String[]> trigramsOf) {
+        Map<String, Float> weights = new LinkedHashMap<>();
+        addWords(weights, firstname, NAME_WEIGHT);
+        addWords(weights, lastname, NAME_WEIGHT);
+        addWords(weights, location, LOCATION_WEIGHT);
+        addWords(weights, aboutMe, ABOUT_ME_WEIGHT);
+
+        IndexedWord[] words = new IndexedWord[weights.size()];
+        int i = 0;
+        for (Map.Entry<String, Float> entry : weights.entrySet()) {
+            words[i++] = new IndexedWord(entry.getKey(), entry.getValue(), trigramsOf.apply(entry.getKey()));
+        }
+        return words;
+    }
+
+    private static void addWords(Map<String, Float> weights, String text, float weight) {
+        for (String word : splitWords(text)) {
+            weights.merge(word, weight, Math::max);
+        }
+    }
+
+    private static List<String> splitWords(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> words = new ArrayList<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Trigrams of word padded with word boundaries, so prefixes and short words get trigrams too
+     * */
+    private static Set<String> trigrams(String word) {
+        String padded = "$" + word + "$";
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        if (trigrams.isEmpty()) {
+            trigrams.add(padded);
+        }
+        return trigrams;
+    }
+
+    private static String[] wordTrigrams(String word) {
+        return trigrams(word).toArray(String[]::new);
+    }
+
+    /**
+     * Snapshot is consumed on load, so after a crash the index is always rebuilt from database.
+     * It is also ignored when the change marker of talent table differs from the one saved with it,
+     * so talents created, updated or deleted while this node was down are never missed.
+     * Postings are read as saved, only trigrams of distinct words are computed again
+     *
+     * @return is index loaded from snapshot
+     * */
+    private boolean loadSnapshot() {
+        if (snapshotPath.isBlank() || !Files.exists(Path.of(snapshotPath))) {
+            return false;
+        }
+        Path path = Path.of(snapshotPath);
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(path))))) {
+            if (input.readInt() != SNAPSHOT_FORMAT) {
+                return false;
+            }
+            TalentChangeMarker marker = new TalentChangeMarker(input.readLong(), input.readLong(), input.readLong());
+            long count = marker.count();
+            if (!marker.equals(talentRepository.findChangeMarker())) {
+                log.info("Full-text index snapshot is outdated, rebuilding index");
+                return false;
+            }
+
+            lock.writeLock().lock();
+            try {
+                clear();
+                String[] dictionary = new String[input.readInt()];
+                String[][] dictionaryTrigrams = new String[dictionary.length][];
+                for (int i = 0; i < dictionary.length; i++) {
+                    dictionary[i] = input.readUTF();
+                    dictionaryTrigrams[i] = wordTrigrams(dictionary[i]);
+                }
+                for (long i = 0; i < count; i++) {
+                    long talentId = input.readLong();
+                    IndexedWord[] words = new IndexedWord[input.readInt()];
+                    for (int j = 0; j < words.length; j++) {
+                        int wordIndex = input.readInt();
+                        words[j] = new IndexedWord(dictionary[wordIndex], input.readFloat(), dictionaryTrigrams[wordIndex]);
+                    }
+                    wordsByTalent.put(talentId, words);
+                }
+                int trigramCount = input.readInt();
+                for (int i = 0; i < trigramCount; i++) {
+                    talentsByTrigram.put(input.readUTF(), SortedIds.readFrom(input));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Full-text index loaded from snapshot with {} talents", count);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to load full-text index snapshot: {}", e.getMessage());
+            return false;
+        } finally {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("Failed to delete full-text index snapshot: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Save index with the change marker of talent table, index which does not match the table is not saved
+     * */
+    @PreDestroy
+    public void saveSnapshot() {
+        if (snapshotPath.isBlank()) {
+            return;
+        }
+        Path path = Path.of(snapshotPath);
+        Path temporaryPath = Path.of(snapshotPath + ".tmp");
+        lock.readLock().lock();
+        try {
+            TalentChangeMarker marker = talentRepository.findChangeMarker();
+            if (marker.count() != wordsByTalent.size()
+                    || marker.maxId() != wordsByTalent.keySet().stream().mapToLong(Long::longValue).max().orElse(0L)) {
+                log.info("Full-text index does not match talents, snapshot is not saved");
+                return;
+            }
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(temporaryPath))))) {
+                output.writeInt(SNAPSHOT_FORMAT);
+                output.writeLong(marker.count());
+                output.writeLong(marker.maxId());
+                output.writeLong(marker.versionSum());
+
+                Map<String, Integer> dictionary = new LinkedHashMap<>();
+                for (IndexedWord[] words : wordsByTalent.values()) {
+                    for (IndexedWord word : words) {
+                        dictionary.putIfAbsent(word.word(), dictionary.size());
+                    }
+                }
+                output.writeInt(dictionary.size());
+                for (String word : dictionary.keySet()) {
+                    output.writeUTF(word);
+                }
+                for (Map.Entry<Long, IndexedWord[]> entry : wordsByTalent.entrySet()) {
+                    output.writeLong(entry.getKey());
+                    output.writeInt(entry.getValue().length);
+                    for (IndexedWord word : entry.getValue()) {
+                        output.writeInt(dictionary.get(word.word()));
+                        output.writeFloat(word.weight());
+                    }
+                }
+                output.writeInt(talentsByTrigram.size());
+                for (Map.Entry<String, SortedIds> entry : talentsByTrigram.entrySet()) {
+                    output.writeUTF(entry.getKey());
+                    entry.getValue().writeTo(output);
+                }
+            }
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to save full-text index snapshot: {}", e.getMessage());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private record IndexedWord(String word, float weight, String[] trigrams) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.backend.talent.search;
+
+import com.example.backend.pagination.PageCursor;
+import com.example.backend.pagination.exception.InvalidCursorException;
+
+import static com.example.backend.pagination.PaginationConstant.INVALID_CURSOR_MESSAGE;
+
+/**
+ *  Talent found by full-text search with its relevance score
+ *
+ * @param talentId talent id
+ * @param score relevance score
+ * */
+public record TextMatch(long talentId, double score) implements Comparable<TextMatch> {
+    private static final String CURSOR_PREFIX = "text:";
+
+    /**
+     * Matches are ordered by score from the most relevant, then by id from newest
+     * */
+    @Override
+    public int compareTo(TextMatch other) {
+        int byScore = Double.compare(other.score, score);
+        return byScore != 0 ? byScore : Long.compare(other.talentId, talentId);
+    }
+
+    public String toCursor() {
+        return PageCursor.encode(CURSOR_PREFIX + Double.toHexString(score) + ":" + talentId);
+    }
+
+    public static TextMatch fromCursor(String cursor) {
+        String raw = PageCursor.decode(cursor);
+        String[] parts = raw.startsWith(CURSOR_PREFIX) ? raw.substring(CURSOR_PREFIX.length()).split(":") : new String[0];
+        if (parts.length != 2) {
+            throw new InvalidCursorException(INVALID_CURSOR_MESSAGE);
+        }
+        try {
+            return new TextMatch(Long.parseLong(parts[1]), Double.parseDouble(parts[0]));
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException(INVALID_CURSOR_MESSAGE);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.backend.talent.service;
+
+import com.example.backend.pagination.CursorPage;
+import com.example.backend.pagination.PageWithMetadata;
+import com.example.backend.talent.model.response.TalentGeneralInfo;
+import com.example.backend.talent.model.response.TalentProfile;
+import com.example.backend.utils.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ *  Non-blocking facade of talent reads.
+ *  JPA calls stay blocking, so they run on a bounded scheduler sized to the connection pool instead of
+ *  request threads. Request thread is released as soon as the read is scheduled, and when the scheduler
+ *  queue is full the request is rejected right away
+ *
+ * */
+@Service
+public class TalentReactiveService {
+    private static final String READS_UNAVAILABLE_MESSAGE = "Too many read requests, try again later";
+
+    private final TalentService talentService;
+    private final Scheduler scheduler;
+    private final Counter rejections;
+
+    public TalentReactiveService(TalentService talentService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${talent.reactive.threads:10}") int threads,
+                                 @Value("${talent.reactive.queue-capacity:1000}") int queueCapacity) {
+        this.talentService = talentService;
+        this.scheduler = Schedulers.newBoundedElastic(threads, queueCapacity, "talent-read");
+        this.rejections = Counter.builder("talent.reactive.rejections").register(meterRegistry);
+    }
+
+    public Mono<PageWithMetadata<TalentGeneralInfo>> getAllTalents(int page, int size) {
+        return read(() -> talentService.getAllTalents(page, size));
+    }
+
+    public Mono<CursorPage<TalentGeneralInfo>> getTalentsAfter(String after, int size) {
+        return read(() -> talentService.getTalentsAfter(after, size));
+    }
+
+    public Mono<CursorPage<TalentGeneralInfo>> getTalentsBefore(String before, int size) {
+        return read(() -> talentService.getTalentsBefore(before, size));
+    }
+
+    public Mono<PageWithMetadata<TalentGeneralInfo>> searchTalentsBySkills(Set<String> skills, String mode, int page, int size) {
+        return read(() -> talentService.searchTalentsBySkills(skills, mode, page, size));
+    }
+
+    public Mono<CursorPage<TalentGeneralInfo>> searchTalentsByText(String query, String after, int size) {
+        return read(() -> talentService.searchTalentsByText(query, after, size));
+    }
+
+    public Mono<TalentProfile> getTalentProfileById(Long id) {
+        return read(() -> talentService.getTalentProfileById(id));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.dispose();
+    }
+
+    /**
+     * Run blocking read on the read scheduler.
+     * Security context of the calling thread is captured here, so ownership checks see the same jwt claims
+     *
+     * @param read blocking read
+     *
+     * @return lazy result of the read
+     * */
+    private <T> Mono<T> read(Callable<T> read) {
+        return Mono.fromCallable(new DelegatingSecurityContextCallable<>(read))
+                .subscribeOn(scheduler)
+                .onErrorMap(RejectedExecutionException.class, e -> {
+                    rejections.increment();
+                    return new ServiceUnavailableException(READS_UNAVAILABLE_MESSAGE);
+                });
+    }
+}
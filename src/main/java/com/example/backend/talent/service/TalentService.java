@@ -1,62 +1,198 @@
 package com.example.backend.talent.service;
 
+import com.example.backend.jwt.JwtClaims;
 import com.example.backend.jwt.JwtTokenProvider;
 import com.example.backend.mapper.TalentMapper;
+import com.example.backend.pagination.CursorPage;
+import com.example.backend.pagination.PageCursor;
 import com.example.backend.pagination.PageWithMetadata;
 import com.example.backend.payload.AuthResponse;
-import com.example.backend.talent.exception.DeniedAccessException;
+import com.example.backend.principal.RoleResolver;
+import com.example.backend.talent.cache.TalentListingPageCache;
+import com.example.backend.talent.cache.TalentListingPageCache.SerializedPage;
+import com.example.backend.talent.cache.TalentProfileCache;
+import com.example.backend.talent.event.TalentChangeSequence;
+import com.example.backend.talent.event.TalentChangedEvent;
 import com.example.backend.talent.exception.EmptySkillsException;
 import com.example.backend.talent.exception.TalentExistsException;
 import com.example.backend.talent.exception.TalentNotFoundException;
+import com.example.backend.talent.model.TalentField;
 import com.example.backend.talent.model.entity.Talent;
 import com.example.backend.talent.model.request.TalentEdit;
 import com.example.backend.talent.model.request.TalentLogin;
 import com.example.backend.talent.model.request.TalentRegistration;
+import com.example.backend.talent.model.response.EmailAvailability;
 import com.example.backend.talent.model.response.TalentGeneralInfo;
 import com.example.backend.talent.model.response.TalentOwnProfile;
 import com.example.backend.talent.model.response.TalentProfile;
+import com.example.backend.talent.model.response.TalentProfileEntry;
 import com.example.backend.talent.repository.TalentRepository;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.example.backend.talent.search.RegisteredEmailFilter;
+import com.example.backend.talent.search.SkillIndex;
+import com.example.backend.talent.search.SkillMatchMode;
+import com.example.backend.talent.search.TalentTextIndex;
+import com.example.backend.talent.search.TextMatch;
+import com.example.backend.utils.exception.BadRequestException;
+import com.example.backend.utils.service.AccessVerifyService;
+import com.example.backend.utils.service.PasswordHashingService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.util.*;
 
+import static com.example.backend.pagination.PaginationConstant.MAX_PAGE_SIZE;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TalentService {
     private final TalentRepository talentRepository;
     private final TalentMapper talentMapper;
-    private final PasswordEncoder passwordEncoder;
-    private final AuthenticationManager authenticationManager;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RoleResolver roleResolver;
+    private final AccessVerifyService accessVerifyService;
+    private final SkillIndex skillIndex;
+    private final TalentTextIndex talentTextIndex;
+    private final TalentProfileCache talentProfileCache;
+    private final TalentChangeSequence talentChangeSequence;
+    private final TalentListingPageCache talentListingPageCache;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Timed(value = "talent.service", histogram = true)
     public PageWithMetadata<TalentGeneralInfo> getAllTalents(int page, int size){
-        try {
-            Thread.sleep(200); // Приклад: сервер спить на 2 мілісекунд
-        } catch (InterruptedException e) {
-            e.printStackTrace();
+        Page<TalentGeneralInfo> talentPage = talentRepository.findGeneralInfos(PageRequest.of(page, limitSize(size)));
+        return new PageWithMetadata<>(withSkills(talentPage.getContent()), talentPage.getTotalPages());
+    }
+
+    /**
+     * Get listing page with only requested fields, columns and skills that are not requested are not loaded.
+     * Number of talents is taken from the change marker, so it is counted once per change instead of once per page
+     *
+     * @param page page number
+     * @param size page size
+     * @param fields comma separated fields of {@link TalentField#GENERAL_INFO_FIELDS}
+     *
+     * @return page of talents as field maps
+     * */
+    @Timed(value = "talent.service", histogram = true)
+    public PageWithMetadata<Map<String, Object>> getAllTalents(int page, int size, String fields) {
+        Set<TalentField> requestedFields = TalentField.parse(fields, TalentField.GENERAL_INFO_FIELDS);
+        PageRequest pageRequest = PageRequest.of(page, limitSize(size));
+
+        List<Map<String, Object>> talents = talentRepository.findFieldsPage(requestedFields, pageRequest);
+        long total = talentChangeSequence.getChangeMarker().count();
+        int totalPages = (int) ((total + pageRequest.getPageSize() - 1) / pageRequest.getPageSize());
+        return new PageWithMetadata<>(withFields(talents, requestedFields), totalPages);
+    }
+
+    /**
+     * Get one of the first listing pages already serialized to JSON
+     *
+     * @param page page number
+     * @param size page size
+     *
+     * @return serialized page or null if the page is not cached
+     * */
+    @Timed(value = "talent.service", histogram = true)
+    public SerializedPage getSerializedTalentsPage(int page, int size) {
+        if (!talentListingPageCache.isCached(page)) {
+            return null;
         }
-        Page<Talent> talentPage = talentRepository.findAllByOrderByIdDesc(PageRequest.of(page, size));
-        List<TalentGeneralInfo> talentGeneralInfos = talentMapper.toTalentGeneralInfos(talentPage.getContent());
-        return new PageWithMetadata<>(talentGeneralInfos, talentPage.getTotalPages());
+        int limit = limitSize(size);
+        return talentListingPageCache.get(page, limit, () -> getAllTalents(page, limit));
     }
 
-    @Transactional
+    @Timed(value = "talent.service", histogram = true)
+    public CursorPage<TalentGeneralInfo> getTalentsAfter(String after, int size) {
+        int limit = limitSize(size);
+        boolean firstPage = after == null || after.isBlank();
+        long afterId = firstPage ? Long.MAX_VALUE : PageCursor.decodeId(after);
+
+        List<TalentGeneralInfo> talents = new ArrayList<>(
+                talentRepository.findGeneralInfosByIdLessThan(afterId, PageRequest.of(0, limit + 1)));
+        boolean hasNext = talents.size() > limit;
+        if (hasNext) {
+            talents.remove(limit);
+        }
+
+        String nextCursor = hasNext ? PageCursor.encodeId(talents.get(talents.size() - 1).getId()) : null;
+        String prevCursor = !firstPage && !talents.isEmpty() ? PageCursor.encodeId(talents.get(0).getId()) : null;
+        return new CursorPage<>(withSkills(talents), nextCursor, prevCursor, hasNext);
+    }
+
+    @Timed(value = "talent.service", histogram = true)
+    public CursorPage<TalentGeneralInfo> getTalentsBefore(String before, int size) {
+        int limit = limitSize(size);
+        long beforeId = PageCursor.decodeId(before);
+
+        List<TalentGeneralInfo> talents = new ArrayList<>(
+                talentRepository.findGeneralInfosByIdGreaterThan(beforeId, PageRequest.of(0, limit + 1)));
+        boolean hasPrev = talents.size() > limit;
+        if (hasPrev) {
+            talents.remove(limit);
+        }
+        Collections.reverse(talents);
+
+        /* an empty page keeps the incoming cursor, so older talents can still be reached from it */
+        long nextId = talents.isEmpty() ? beforeId : talents.get(talents.size() - 1).getId();
+        boolean hasNext = talentRepository.existsByIdLessThan(nextId);
+        String nextCursor = hasNext ? PageCursor.encodeId(nextId) : null;
+        String prevCursor = hasPrev ? PageCursor.encodeId(talents.get(0).getId()) : null;
+        return new CursorPage<>(withSkills(talents), nextCursor, prevCursor, hasNext);
+    }
+
+    @Timed(value = "talent.service", histogram = true)
+    public PageWithMetadata<TalentGeneralInfo> searchTalentsBySkills(Set<String> skills, String mode, int page, int size) {
+        int limit = limitSize(size);
+        List<Long> rankedIds = skillIndex.search(skills, SkillMatchMode.fromValue(mode));
+
+        int from = (int) Math.min((long) Math.max(page, 0) * limit, rankedIds.size());
+        List<Long> pageIds = rankedIds.subList(from, Math.min(from + limit, rankedIds.size()));
+        int totalPages = (rankedIds.size() + limit - 1) / limit;
+        return new PageWithMetadata<>(findGeneralInfosInOrder(pageIds), totalPages);
+    }
+
+    @Timed(value = "talent.service", histogram = true)
+    public CursorPage<TalentGeneralInfo> searchTalentsByText(String query, String after, int size) {
+        int limit = limitSize(size);
+        TextMatch afterMatch = after == null || after.isBlank() ? null : TextMatch.fromCursor(after);
+
+        List<TextMatch> matches = talentTextIndex.search(query, afterMatch, limit + 1);
+        boolean hasNext = matches.size() > limit;
+        if (hasNext) {
+            matches = matches.subList(0, limit);
+        }
+
+        List<Long> ids = matches.stream().map(TextMatch::talentId).toList();
+        String nextCursor = hasNext ? matches.get(matches.size() - 1).toCursor() : null;
+        return new CursorPage<>(findGeneralInfosInOrder(ids), nextCursor, null, hasNext);
+    }
+
+    /**
+     * Register talent. Password is hashed outside any transaction and the talent is inserted in its own short one,
+     * so a burst of registrations does not hold pool connections while waiting for BCrypt
+     *
+     * @param talent registration request
+     *
+     * @return token of registered talent
+     * */
+    @Timed(value = "talent.service", histogram = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponse addTalent(TalentRegistration talent){
-        if (talentRepository.existsByEmailIgnoreCase(talent.getEmail())){
+        /* uniqueness is enforced by the constraint, this check only saves a password hash for known emails */
+        if (isEmailRegistered(talent.getEmail())){
             throw new TalentExistsException("The talent has already exists with email [" + talent.getEmail() + "]");
         }
 
@@ -64,58 +200,167 @@ public class TalentService {
             throw new EmptySkillsException("Skills should not be empty");
         }
 
-        var savedTalent = talentRepository.save(Talent.builder()
-                .password(passwordEncoder.encode(talent.getPassword()))
-                .email(talent.getEmail())
-                .firstname(talent.getFirstname())
-                .lastname(talent.getLastname())
-                .skills(new LinkedHashSet<>(talent.getSkills()))
-                .build());
+        String encodedPassword = passwordHashingService.encode(talent.getPassword());
+        Talent savedTalent;
+        try {
+            savedTalent = talentRepository.saveAndFlush(Talent.builder()
+                    .password(encodedPassword)
+                    .email(talent.getEmail())
+                    .firstname(talent.getFirstname())
+                    .lastname(talent.getLastname())
+                    .skills(new LinkedHashSet<>(talent.getSkills()))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            if (!isNormalizedEmailViolation(e)) {
+                throw e;
+            }
+            throw new TalentExistsException("The talent has already exists with email [" + talent.getEmail() + "]");
+        }
 
-        String jwtToken = jwtTokenProvider.generateJwtToken(savedTalent);
+        eventPublisher.publishEvent(TalentChangedEvent.created(savedTalent));
+
+        String jwtToken = jwtTokenProvider.generateJwtToken(savedTalent, roleResolver.resolve(savedTalent.getEmail()));
         return new AuthResponse(jwtToken);
     }
 
-    @Transactional
+    /**
+     * Log in talent. Stored hash is read in a short query and verified outside any transaction,
+     * an outdated hash is replaced by a separate conditional update
+     *
+     * @param loginRequest email and password
+     *
+     * @return token of talent
+     * */
+    @Timed(value = "talent.service", histogram = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponse login(TalentLogin loginRequest) {
         String email = loginRequest.getEmail();
         Talent foundTalent = talentRepository.findByEmail(email)
                 .orElseThrow(() -> new TalentNotFoundException("Talent was not found by email [" + email + "]"));
 
-        if (!passwordEncoder.matches(loginRequest.getPassword(), foundTalent.getPassword())) {
+        if (!passwordHashingService.matches(loginRequest.getPassword(), foundTalent.getPassword())) {
             throw new BadCredentialsException("Invalid email or password");
         }
 
-        var authenticationToken = new UsernamePasswordAuthenticationToken(email, loginRequest.getPassword());
-        var authentication = authenticationManager.authenticate(authenticationToken);
-
-        SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (passwordHashingService.upgradeEncoding(foundTalent.getPassword())) {
+            String upgradedPassword = passwordHashingService.encode(loginRequest.getPassword());
+            /* a password changed meanwhile is kept, the hash is upgraded on next login */
+            talentRepository.updatePassword(foundTalent.getId(), foundTalent.getPassword(), upgradedPassword);
+        }
 
-        String jwtToken = jwtTokenProvider.generateJwtToken(foundTalent);
+        String jwtToken = jwtTokenProvider.generateJwtToken(foundTalent, roleResolver.resolve(foundTalent.getEmail()));
         return new AuthResponse(jwtToken);
     }
 
+    /**
+     * Check if email is free for registration, most free emails are answered by the filter without a query
+     *
+     * @param email email
+     *
+     * @return email availability
+     * */
+    @Timed(value = "talent.service", histogram = true)
+    public EmailAvailability checkEmailAvailability(String email) {
+        return new EmailAvailability(email, !isEmailRegistered(email));
+    }
+
+    /**
+     * ETag of listing pages, it changes with every talent change committed on this node
+     * and within talent.cache.listing.ttl after changes committed on other nodes
+     *
+     * @return current ETag of listing
+     * */
+    public String getListingETag() {
+        return talentChangeSequence.getETag();
+    }
+
+    /**
+     * ETag of talent profile built from its version, owner view has its own ETag
+     *
+     * @param id talent id
+     *
+     * @return ETag or null if talent was not found
+     * */
+    @Timed(value = "talent.service", histogram = true)
+    public String getTalentProfileETag(Long id) {
+        boolean personalProfile = accessVerifyService.isPersonalProfile(id);
+
+        Long version = null;
+        if (!personalProfile) {
+            TalentProfile cachedProfile = talentProfileCache.getIfPresent(id);
+            version = cachedProfile == null ? null : cachedProfile.getVersion();
+        }
+        if (version == null) {
+            version = talentRepository.findVersionById(id).orElse(null);
+        }
+        if (version == null) {
+            return null;
+        }
+        return id + "-" + version + (personalProfile ? "-own" : "");
+    }
+
+    /**
+     * Get public profile with only requested fields
+     *
+     * @param id talent id
+     * @param fields comma separated fields of {@link TalentField#PROFILE_FIELDS}
+     *
+     * @return profile as field map
+     * */
+    @Timed(value = "talent.service", histogram = true)
+    public Map<String, Object> getTalentProfileById(Long id, String fields) {
+        Set<TalentField> requestedFields = TalentField.parse(fields, TalentField.PROFILE_FIELDS);
+        Map<String, Object> profile = talentRepository.findFieldsById(id, requestedFields)
+                .orElseThrow(() -> new TalentNotFoundException("Talent was not found"));
+        return withFields(List.of(profile), requestedFields).get(0);
+    }
+
+    @Timed(value = "talent.service", histogram = true)
     public TalentProfile getTalentProfileById(Long id) {
-        Talent foundTalent = getTalentById(id);
+        /* own profile has private fields, so it is never cached */
+        if (accessVerifyService.isPersonalProfile(id)) {
+            return talentMapper.toTalentOwnProfile(getTalentById(id));
+        }
+        return talentProfileCache.get(id, talentId -> talentMapper.toTalentProfile(getTalentById(talentId)));
+    }
 
-        if (isPersonalProfile(foundTalent)) {
-            return talentMapper.toTalentOwnProfile(foundTalent);
-        } else {
-            return talentMapper.toTalentProfile(foundTalent);
+    /**
+     * Get public profiles of several talents at once.
+     * Cached profiles are reused, the rest is loaded with one query fetching talents together with their skills
+     *
+     * @param ids talent ids
+     *
+     * @return entries in order of ids, missing talents are reported with found set to false
+     * */
+    @Timed(value = "talent.service", histogram = true)
+    public List<TalentProfileEntry> getTalentProfilesByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_PAGE_SIZE || ids.stream().anyMatch(Objects::isNull)) {
+            throw new BadRequestException("Number of ids should be from 1 to " + MAX_PAGE_SIZE);
         }
+
+        Map<Long, TalentProfile> profiles = talentProfileCache.getAll(new LinkedHashSet<>(ids), missingIds -> {
+            Map<Long, TalentProfile> loadedProfiles = new HashMap<>();
+            for (Talent talent : talentRepository.findWithSkillsByIdIn(List.copyOf(missingIds))) {
+                loadedProfiles.put(talent.getId(), talentMapper.toTalentProfile(talent));
+            }
+            return loadedProfiles;
+        });
+        return ids.stream()
+                .map(id -> new TalentProfileEntry(id, profiles.containsKey(id), profiles.get(id)))
+                .toList();
     }
 
+    @Timed(value = "talent.service", histogram = true)
     @Transactional
     public TalentOwnProfile updateTalent(Long id, TalentEdit updatedTalent) {
-        Talent talentToUpdate = getTalentById(id);
-        if(!isPersonalProfile(talentToUpdate)) {
-            throw new DeniedAccessException("You are not allowed to edit this talent");
-        }
+        accessVerifyService.verifyOwnership(id, "You are not allowed to edit this talent");
 
         if(updatedTalent.getSkills().isEmpty()){
             throw new EmptySkillsException("Skills should not be empty");
         }
 
+        Talent talentToUpdate = getTalentById(id);
+
         talentToUpdate.setLastname(updatedTalent.getLastname());
         talentToUpdate.setFirstname(updatedTalent.getFirstname());
         talentToUpdate.setSkills(new LinkedHashSet<>(updatedTalent.getSkills()));
@@ -131,17 +376,112 @@ public class TalentService {
         }
 
         Talent savedTalent = talentRepository.save(talentToUpdate);
+        eventPublisher.publishEvent(TalentChangedEvent.updated(savedTalent));
 
         return talentMapper.toTalentOwnProfile(savedTalent);
     }
+    @Timed(value = "talent.service", histogram = true)
     @Transactional
     public void deleteTalent(Long id) {
-        Talent talentToDelete = getTalentById(id);
-        if (!isPersonalProfile(talentToDelete)) {
-            throw new DeniedAccessException("You are not allowed to delete this talent");
-        } else {
-            talentRepository.delete(talentToDelete);
+        JwtClaims owner = accessVerifyService.verifyOwnership(id, "You are not allowed to delete this talent");
+
+        if (talentRepository.deleteByIdAndEmail(id, owner.subject()) == 0) {
+            throw new TalentNotFoundException("Talent was not found");
+        }
+        eventPublisher.publishEvent(TalentChangedEvent.deleted(id));
+    }
+
+    private boolean isEmailRegistered(String email) {
+        return registeredEmailFilter.mightContain(email)
+                && talentRepository.existsByNormalizedEmail(Talent.normalizeEmail(email));
+    }
+
+    private static boolean isNormalizedEmailViolation(DataIntegrityViolationException e) {
+        String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(Talent.NORMALIZED_EMAIL_CONSTRAINT);
+    }
+
+    /**
+     * Load talents by ids keeping order of ids, missing talents are skipped
+     *
+     * @param ids ordered talent ids
+     *
+     * @return talents with skills
+     * */
+    private List<TalentGeneralInfo> findGeneralInfosInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
         }
+
+        Map<Long, TalentGeneralInfo> talentsById = new HashMap<>();
+        for (TalentGeneralInfo talent : talentRepository.findGeneralInfosByIdIn(ids)) {
+            talentsById.put(talent.getId(), talent);
+        }
+        List<TalentGeneralInfo> talents = ids.stream()
+                .map(talentsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return withSkills(talents);
+    }
+
+    /**
+     * Load skills of the whole page with one query instead of one query per talent
+     *
+     * @param talents page of talents without skills
+     *
+     * @return the same talents with skills
+     * */
+    private List<TalentGeneralInfo> withSkills(List<TalentGeneralInfo> talents) {
+        if (talents.isEmpty()) {
+            return talents;
+        }
+
+        Map<Long, TalentGeneralInfo> talentsById = new HashMap<>();
+        for (TalentGeneralInfo talent : talents) {
+            talent.setSkills(new LinkedHashSet<>());
+            talentsById.put(talent.getId(), talent);
+        }
+        for (Object[] row : talentRepository.findSkillsByTalentIds(talentsById.keySet())) {
+            talentsById.get((Long) row[0]).getSkills().add((String) row[1]);
+        }
+        return talents;
+    }
+
+    /**
+     * Order loaded columns as fields are declared in {@link TalentField} and load skills of all talents
+     * with one query if they are requested
+     *
+     * @param talents loaded columns by JSON name, each with id
+     * @param fields requested fields
+     *
+     * @return talents with requested fields only
+     * */
+    private List<Map<String, Object>> withFields(List<Map<String, Object>> talents, Set<TalentField> fields) {
+        Map<Long, Set<String>> skillsById = new HashMap<>();
+        if (fields.contains(TalentField.SKILLS) && !talents.isEmpty()) {
+            for (Map<String, Object> talent : talents) {
+                skillsById.put((Long) talent.get(TalentField.ID.getJsonName()), new LinkedHashSet<>());
+            }
+            for (Object[] row : talentRepository.findSkillsByTalentIds(skillsById.keySet())) {
+                skillsById.get((Long) row[0]).add((String) row[1]);
+            }
+        }
+
+        List<Map<String, Object>> result = new ArrayList<>(talents.size());
+        for (Map<String, Object> talent : talents) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (TalentField field : fields) {
+                values.put(field.getJsonName(), field == TalentField.SKILLS
+                        ? skillsById.get((Long) talent.get(TalentField.ID.getJsonName()))
+                        : talent.get(field.getJsonName()));
+            }
+            result.add(values);
+        }
+        return result;
+    }
+
+    private static int limitSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
     }
 
     private Talent getTalentById(Long id) {
@@ -149,30 +489,12 @@ public class TalentService {
                 .orElseThrow(() -> new TalentNotFoundException("Talent was not found"));
     }
 
-    private boolean isPersonalProfile(Talent talent) {
-        String authEmail = (String) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        return authEmail.equalsIgnoreCase(talent.getEmail());
-    }
-
     private static Map<String, String> extractMetadata(MultipartFile file) {
         Map<String, String> metadata = new HashMap<>();
         metadata.put("Content-Type", file.getContentType());
         metadata.put("Content-Length", String.valueOf(file.getSize()));
         return metadata;
     }
-    public void exportUsersToFile() {
-        List<Talent> users = talentRepository.findAll();
-        String desktopPath = System.getProperty("user.home") + "/Desktop";
-        String filePath = desktopPath + "/users.xml";
-        try {
-            XmlMapper xmlMapper = new XmlMapper();
-            xmlMapper.enable(SerializationFeature.INDENT_OUTPUT);
-            xmlMapper.writeValue(new File(filePath), users);
-            System.out.println("Users exported to XML file successfully.");
-        } catch (Exception e) {
-            System.err.println("Error exporting users to XML file: " + e.getMessage());
-        }
-    }
 
 }
 
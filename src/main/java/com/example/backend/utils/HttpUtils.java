@@ -0,0 +1,26 @@
+package com.example.backend.utils;
+
+public class HttpUtils {
+    private HttpUtils() {
+    }
+
+    /**
+     * Check if client accepts gzip content coding, an explicit q=0 refuses it
+     *
+     * @param acceptEncoding value of Accept-Encoding header
+     *
+     * @return can response be gzipped
+     * */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
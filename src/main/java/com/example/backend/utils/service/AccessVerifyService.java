@@ -1,2 +1,53 @@
-package com.example.backend.utils.service;public class AccessVerifyService {
+package com.example.backend.utils.service;
+
+import com.example.backend.jwt.JwtClaims;
+import com.example.backend.talent.exception.DeniedAccessException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ *  Service for checking access of authenticated talent to talent resources.
+ *  Ownership is decided by talent id claim of verified jwt-token, so no entity is loaded
+ *
+ * */
+@Service
+public class AccessVerifyService {
+
+    /**
+     * Check if authenticated talent owns the profile
+     *
+     * @param talentId id of requested talent
+     *
+     * @return is personal profile
+     * */
+    public boolean isPersonalProfile(Long talentId) {
+        return getAuthenticatedClaims()
+                .map(claims -> claims.talentId() != null && claims.talentId().equals(talentId))
+                .orElse(false);
+    }
+
+    /**
+     * Reject request if authenticated talent does not own the profile
+     *
+     * @param talentId id of requested talent
+     * @param message message of denied access
+     *
+     * @return claims of the owner
+     * */
+    public JwtClaims verifyOwnership(Long talentId, String message) {
+        return getAuthenticatedClaims()
+                .filter(claims -> claims.talentId() != null && claims.talentId().equals(talentId))
+                .orElseThrow(() -> new DeniedAccessException(message));
+    }
+
+    private Optional<JwtClaims> getAuthenticatedClaims() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtClaims claims) {
+            return Optional.of(claims);
+        }
+        return Optional.empty();
+    }
 }
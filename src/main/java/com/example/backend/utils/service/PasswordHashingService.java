@@ -0,0 +1,162 @@
+package com.example.backend.utils.service;
+
+import com.example.backend.utils.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ *  Service for password hashing on a dedicated bounded pool.
+ *  Hashes never run on request threads, and when the pool and its queue are full
+ *  the request is rejected right away instead of waiting for a free thread
+ *
+ * */
+@Service
+public class PasswordHashingService {
+    private static final String HASHING_UNAVAILABLE_MESSAGE = "Too many authentication requests, try again later";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final int poolSize;
+    private final long timeoutMillis;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter queueFullRejections;
+    private final Counter timeoutRejections;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${password.hashing.pool-size:0}") int poolSize,
+                                  @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+                                  @Value("${password.hashing.timeout-ms:5000}") long timeoutMillis) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.passwordEncoder = passwordEncoder;
+        this.poolSize = threads;
+        this.timeoutMillis = timeoutMillis;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.encodeTimer = Timer.builder("password.hashing").tag("operation", "encode")
+                .publishPercentileHistogram().register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hashing").tag("operation", "matches")
+                .publishPercentileHistogram().register(meterRegistry);
+        this.queueFullRejections = Counter.builder("password.hashing.rejections").tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.timeoutRejections = Counter.builder("password.hashing.rejections").tag("reason", "timeout")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Hash raw password
+     *
+     * @param rawPassword raw password
+     *
+     * @return encoded password
+     * */
+    public String encode(CharSequence rawPassword) {
+        return await(submit(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword))));
+    }
+
+    /**
+     * Hash batch of raw passwords in parallel.
+     * Passwords are submitted in windows of pool size, so bulk hashing never fills the queue shared with logins.
+     * When the queue is full anyway, earlier passwords of the window are awaited before submitting again,
+     * and the batch is rejected if the queue is still full after all of them are done
+     *
+     * @param rawPasswords raw passwords
+     *
+     * @return encoded passwords in the same order
+     * */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        List<String> encodedPasswords = new ArrayList<>(rawPasswords.size());
+        for (int from = 0; from < rawPasswords.size(); from += poolSize) {
+            List<Future<String>> window = new ArrayList<>(poolSize);
+            int awaited = 0;
+            for (CharSequence rawPassword : rawPasswords.subList(from, Math.min(from + poolSize, rawPasswords.size()))) {
+                Future<String> future = null;
+                while (future == null) {
+                    try {
+                        future = executor.submit(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+                    } catch (RejectedExecutionException e) {
+                        if (awaited == window.size()) {
+                            queueFullRejections.increment();
+                            throw new ServiceUnavailableException(HASHING_UNAVAILABLE_MESSAGE);
+                        }
+                        encodedPasswords.add(await(window.get(awaited++)));
+                    }
+                }
+                window.add(future);
+            }
+            for (Future<String> future : window.subList(awaited, window.size())) {
+                encodedPasswords.add(await(future));
+            }
+        }
+        return encodedPasswords;
+    }
+
+    /**
+     * Check raw password against encoded one
+     *
+     * @param rawPassword raw password
+     * @param encodedPassword stored password hash
+     *
+     * @return is password matched
+     * */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return await(submit(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword))));
+    }
+
+    /**
+     * Check if stored hash was created with outdated algorithm or cost
+     *
+     * @param encodedPassword stored password hash
+     *
+     * @return should password be hashed again
+     * */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            queueFullRejections.increment();
+            throw new ServiceUnavailableException(HASHING_UNAVAILABLE_MESSAGE);
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(HASHING_UNAVAILABLE_MESSAGE);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeoutRejections.increment();
+            throw new ServiceUnavailableException(HASHING_UNAVAILABLE_MESSAGE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,16 @@
+-- Backfill of talent.normalized_email and its unique constraint for databases
+-- that are not recreated on startup (ddl-auto is create-drop only for H2 profiles).
+-- Run once before deploying the registration that relies on uk_talent_normalized_email.
+
+alter table talent add column if not exists normalized_email varchar(255);
+
+update talent
+set normalized_email = lower(trim(email))
+where normalized_email is null
+  and email is not null;
+
+-- The constraint can not be added while emails differing only in case or spaces exist,
+-- resolve rows returned by this query first:
+-- select normalized_email, count(*) from talent group by normalized_email having count(*) > 1;
+
+alter table talent add constraint uk_talent_normalized_email unique (normalized_email);
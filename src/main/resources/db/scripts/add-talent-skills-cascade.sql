@@ -0,0 +1,19 @@
+-- Foreign key from talent_skills to talent with on delete cascade for databases
+-- that are not recreated on startup (ddl-auto is create-drop only for H2 profiles).
+-- Run once before deploying the single statement talent delete, without it deleting
+-- a talent with skills fails on the old foreign key. Written for PostgreSQL.
+
+do $$
+declare
+    old_constraint text;
+begin
+    for old_constraint in
+        select conname from pg_constraint
+        where conrelid = 'talent_skills'::regclass and contype = 'f'
+    loop
+        execute format('alter table talent_skills drop constraint %I', old_constraint);
+    end loop;
+end $$;
+
+alter table talent_skills
+    add constraint fk_talent_skills_talent foreign key (talent_id) references talent (id) on delete cascade;
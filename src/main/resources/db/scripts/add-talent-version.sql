@@ -0,0 +1,13 @@
+-- Version column of talent for optimistic locking and ETags for databases
+-- that are not recreated on startup (ddl-auto is create-drop only for H2 profiles).
+-- Run once before deploying the versioned talent entity, rows with null version
+-- can not be updated and have no ETag.
+
+alter table talent add column if not exists version bigint;
+
+update talent
+set version = 0
+where version is null;
+
+alter table talent alter column version set default 0;
+alter table talent alter column version set not null;
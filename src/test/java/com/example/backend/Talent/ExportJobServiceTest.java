@@ -0,0 +1,139 @@
+package com.example.backend.Talent;
+
+import com.example.backend.talent.export.ExportFormat;
+import com.example.backend.talent.export.ExportJob;
+import com.example.backend.talent.export.ExportJobService;
+import com.example.backend.talent.export.ExportJobStatus;
+import com.example.backend.talent.model.entity.Talent;
+import com.example.backend.talent.repository.TalentRepository;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith({MockitoExtension.class})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ExportJobServiceTest {
+    private static final String HEADER = "id,lastname,firstname,avatar,banner,email,location,birthday,about_me,skills\n";
+
+    @Mock
+    private TalentRepository talentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path spoolDirectory;
+
+    private ExportJobService exportJobService;
+
+    @BeforeEach
+    public void setUp() {
+        exportJobService = new ExportJobService(talentRepository, transactionManager, spoolDirectory.toString(),
+                Duration.ofHours(1), 2, 1, 4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        exportJobService.shutdown();
+    }
+
+    private static Talent talent(long id) {
+        return Talent.builder()
+                .id(id)
+                .lastname("Doe")
+                .firstname("John " + id)
+                .skills(Set.of("Java"))
+                .build();
+    }
+
+    private static String row(long id) {
+        return id + ",Doe,John " + id + ",,,,,,,Java\n";
+    }
+
+    private ExportJob awaitFinished(String id) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        ExportJob job = exportJobService.getJob(id);
+        while (!job.status().isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            job = exportJobService.getJob(id);
+        }
+        return job;
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("[US-2] - Export job writes all talents chunk by chunk")
+    void exportJobWritesAllTalentsChunkByChunk() throws Exception {
+        when(talentRepository.count()).thenReturn(3L);
+        when(talentRepository.findExportChunk(eq(0L), anyInt())).thenReturn(List.of(talent(1), talent(2)));
+        when(talentRepository.findExportChunk(eq(2L), anyInt())).thenReturn(List.of(talent(3)));
+        when(talentRepository.findExportChunk(eq(3L), anyInt())).thenReturn(List.of());
+
+        ExportJob queuedJob = exportJobService.startJob(ExportFormat.CSV);
+        ExportJob job = awaitFinished(queuedJob.id());
+
+        assertThat(queuedJob.status()).isEqualTo(ExportJobStatus.QUEUED);
+        assertThat(job.status()).isEqualTo(ExportJobStatus.COMPLETED);
+        assertThat(job.exportedRows()).isEqualTo(3);
+        assertThat(job.lastId()).isEqualTo(3);
+        assertThat(Files.readString(exportJobService.getCompletedFile(job)))
+                .isEqualTo(HEADER + row(1) + row(2) + row(3));
+        assertThat(Files.exists(spoolDirectory.resolve(job.id() + ".properties"))).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("[US-2] - Resume interrupted export job from last committed chunk on startup")
+    void resumeInterruptedExportJobOnStartup() throws Exception {
+        String committed = HEADER + row(1) + row(2);
+        long committedBytes = committed.getBytes(StandardCharsets.UTF_8).length;
+        ExportJob interruptedJob = ExportJob.queued("interrupted", ExportFormat.CSV, System.currentTimeMillis())
+                .running(3)
+                .committed(2, 2, committedBytes);
+        Files.writeString(spoolDirectory.resolve("interrupted.csv"), committed + "3,half written ro");
+        try (OutputStream output = Files.newOutputStream(spoolDirectory.resolve("interrupted.properties"))) {
+            interruptedJob.toProperties().store(output, null);
+        }
+        when(talentRepository.count()).thenReturn(3L);
+        when(talentRepository.findExportChunk(eq(2L), anyInt())).thenReturn(List.of(talent(3)));
+        when(talentRepository.findExportChunk(eq(3L), anyInt())).thenReturn(List.of());
+
+        exportJobService.resumeJobs();
+        ExportJob job = awaitFinished("interrupted");
+
+        assertThat(job.status()).isEqualTo(ExportJobStatus.COMPLETED);
+        assertThat(job.exportedRows()).isEqualTo(3);
+        assertThat(Files.readString(exportJobService.getCompletedFile(job)))
+                .isEqualTo(HEADER + row(1) + row(2) + row(3));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("[US-2] - Mark export job as failed when talents cannot be read")
+    void markExportJobAsFailed() throws Exception {
+        when(talentRepository.count()).thenReturn(3L);
+        when(talentRepository.findExportChunk(eq(0L), anyInt()))
+                .thenThrow(new IllegalStateException("Database is down"));
+
+        ExportJob job = awaitFinished(exportJobService.startJob(ExportFormat.XML).id());
+
+        assertThat(job.status()).isEqualTo(ExportJobStatus.FAILED);
+        assertThat(job.error()).isEqualTo("Database is down");
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.backend.Talent;
+
+import com.example.backend.talent.model.TalentChangeMarker;
+import com.example.backend.talent.repository.TalentRepository;
+import com.example.backend.talent.search.RegisteredEmailFilter;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith({MockitoExtension.class})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class RegisteredEmailFilterTest {
+
+    @Mock
+    private TalentRepository talentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RegisteredEmailFilter registeredEmailFilter;
+
+    @BeforeEach
+    public void setUp() {
+        registeredEmailFilter = new RegisteredEmailFilter(talentRepository, transactionManager, 0.0001, 1000, 0.1);
+        when(talentRepository.count()).thenReturn(1L);
+        when(talentRepository.findChangeMarker()).thenReturn(new TalentChangeMarker(1L, 1L, 0L));
+        when(talentRepository.streamAllNormalizedEmails()).thenReturn(Stream.of("john.doe@gmail.com"));
+        registeredEmailFilter.rebuild();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("[US-1] - Add emails registered on other nodes on refresh")
+    void addEmailsRegisteredOnOtherNodes() {
+        when(talentRepository.findNormalizedEmailsByIdGreaterThan(eq(1L), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{3L, "remote@gmail.com"}));
+
+        assertThat(registeredEmailFilter.mightContain("John.Doe@gmail.com")).isTrue();
+        assertThat(registeredEmailFilter.mightContain("remote@gmail.com")).isFalse();
+
+        registeredEmailFilter.refresh();
+
+        assertThat(registeredEmailFilter.mightContain("Remote@gmail.com")).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("[US-1] - Read again emails after previous refresh to catch ones committed out of id order")
+    void readAgainEmailsCommittedOutOfIdOrder() {
+        when(talentRepository.findNormalizedEmailsByIdGreaterThan(eq(1L), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{3L, "remote@gmail.com"}))
+                .thenReturn(List.of(new Object[]{2L, "late@gmail.com"}, new Object[]{3L, "remote@gmail.com"}));
+        when(talentRepository.findNormalizedEmailsByIdGreaterThan(eq(3L), any())).thenReturn(List.of());
+
+        registeredEmailFilter.refresh();
+        registeredEmailFilter.refresh();
+        registeredEmailFilter.refresh();
+
+        assertThat(registeredEmailFilter.mightContain("late@gmail.com")).isTrue();
+        verify(talentRepository).findNormalizedEmailsByIdGreaterThan(eq(3L), any());
+    }
+}
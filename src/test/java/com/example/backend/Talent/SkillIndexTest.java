@@ -0,0 +1,99 @@
+package com.example.backend.Talent;
+
+import com.example.backend.talent.event.TalentChangedEvent;
+import com.example.backend.talent.event.TalentsImportedEvent;
+import com.example.backend.talent.model.entity.Talent;
+import com.example.backend.talent.repository.TalentRepository;
+import com.example.backend.talent.search.SkillIndex;
+import com.example.backend.talent.search.SkillMatchMode;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith({MockitoExtension.class})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class SkillIndexTest {
+
+    @Mock
+    private TalentRepository talentRepository;
+
+    @InjectMocks
+    private SkillIndex skillIndex;
+
+    @BeforeEach
+    public void setUp() {
+        when(talentRepository.streamAllSkills()).thenReturn(Stream.of(
+                new Object[]{1L, "Java"},
+                new Object[]{1L, "Kotlin"},
+                new Object[]{2L, "java "},
+                new Object[]{3L, "Kotlin"},
+                new Object[]{4L, "Go"}
+        ));
+        skillIndex.rebuild();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("[US-5] - Find talents with all skills")
+    void findTalentsWithAllSkills() {
+        assertThat(skillIndex.search(List.of("JAVA", "kotlin"), SkillMatchMode.ALL)).containsExactly(1L);
+        assertThat(skillIndex.search(List.of("java", "rust"), SkillMatchMode.ALL)).isEmpty();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("[US-5] - Find talents with any skill ranked by overlap")
+    void findTalentsWithAnySkillRankedByOverlap() {
+        assertThat(skillIndex.search(List.of("java", "kotlin"), SkillMatchMode.ANY)).containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("[US-5] - Keep index in sync with talent changes")
+    void keepIndexInSyncWithTalentChanges() {
+        Talent talent = Talent.builder().id(4L).skills(Set.of("Java")).build();
+
+        skillIndex.onTalentChanged(TalentChangedEvent.updated(talent));
+        skillIndex.onTalentChanged(TalentChangedEvent.deleted(2L));
+
+        assertThat(skillIndex.search(List.of("java"), SkillMatchMode.ANY)).containsExactly(4L, 1L);
+        assertThat(skillIndex.search(List.of("go"), SkillMatchMode.ANY)).isEmpty();
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("[US-5] - Index talents with ids beyond int range")
+    void indexTalentsWithIdsBeyondIntRange() {
+        long id = Integer.MAX_VALUE + 10L;
+        Talent talent = Talent.builder().id(id).skills(Set.of("Java", "Kotlin")).build();
+
+        skillIndex.onTalentChanged(TalentChangedEvent.updated(talent));
+
+        assertThat(skillIndex.search(List.of("java", "kotlin"), SkillMatchMode.ALL)).containsExactly(id, 1L);
+        assertThat(skillIndex.search(List.of("kotlin", "go"), SkillMatchMode.ANY)).containsExactly(id, 4L, 3L, 1L);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("[US-5] - Index imported talents and keep unchanged skills on update")
+    void indexImportedTalentsAndKeepUnchangedSkillsOnUpdate() {
+        skillIndex.onTalentsImported(new TalentsImportedEvent(List.of(
+                Talent.builder().id(5L).skills(Set.of("Go", "Rust")).build(),
+                Talent.builder().id(6L).skills(Set.of("rust")).build())));
+        skillIndex.onTalentChanged(TalentChangedEvent.updated(Talent.builder().id(1L).skills(Set.of("Java", "Rust")).build()));
+
+        assertThat(skillIndex.search(List.of("rust"), SkillMatchMode.ANY)).containsExactly(6L, 5L, 1L);
+        assertThat(skillIndex.search(List.of("go"), SkillMatchMode.ANY)).containsExactly(5L, 4L);
+        assertThat(skillIndex.search(List.of("java"), SkillMatchMode.ANY)).containsExactly(2L, 1L);
+        assertThat(skillIndex.search(List.of("kotlin"), SkillMatchMode.ANY)).containsExactly(3L);
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.backend.Talent;
 
+import com.example.backend.config.BinaryFormatConfig;
 import com.example.backend.jwt.JwtTokenProvider;
 import com.example.backend.pagination.PageWithMetadata;
 import com.example.backend.payload.AuthResponse;
+import com.example.backend.talent.cache.TalentListingPageCache.SerializedPage;
 import com.example.backend.talent.controller.TalentController;
 import com.example.backend.talent.model.entity.Talent;
 import com.example.backend.talent.model.request.TalentEdit;
@@ -12,13 +14,18 @@ import com.example.backend.talent.model.response.TalentGeneralInfo;
 import com.example.backend.talent.model.response.TalentOwnProfile;
 import com.example.backend.talent.model.response.TalentProfile;
 import com.example.backend.talent.service.TalentService;
+import com.example.backend.utils.exception.BadRequestException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
 import org.springframework.test.web.servlet.MockMvc;
@@ -26,11 +33,16 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.*;
@@ -40,6 +52,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @AutoConfigureWebMvc
 @AutoConfigureMockMvc(addFilters = false)
 @WebMvcTest(TalentController.class)
+@Import(BinaryFormatConfig.class)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class TalentControllerTest {
 
@@ -96,6 +109,56 @@ public class TalentControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.content").exists());
     }
 
+    @Test
+    @Order(1)
+    @DisplayName("[US-1] - Send cached listing page as is, compressed when gzip is accepted")
+    void sendCachedListingPage() throws Exception {
+        byte[] json = "{\"content\":[],\"total_pages\":0}".getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(json);
+        }
+        given(talentService.getSerializedTalentsPage(0, 9))
+                .willReturn(new SerializedPage(json, compressed.toByteArray()));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/talents")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.content().bytes(json));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/talents")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(MockMvcResultMatchers.content().bytes(compressed.toByteArray()));
+
+        verify(talentService, never()).getAllTalents(anyInt(), anyInt());
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("[US-1] - Get all talents as CBOR with the same field names")
+    void getAllTalentsAsCbor() throws Exception {
+        given(talentService.getAllTalents(0, 9))
+                .willReturn(new PageWithMetadata<>(List.of(TalentGeneralInfo.builder()
+                        .id(talent.getId())
+                        .lastname(talent.getLastname())
+                        .firstname(talent.getFirstname())
+                        .skills(talent.getSkills()).build()), 1));
+
+        byte[] body = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/talents")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode page = new CBORMapper().readTree(body);
+        assertThat(page.get("total_pages").asInt()).isEqualTo(1);
+        assertThat(page.get("content").get(0).get("firstname").asText()).isEqualTo(talent.getFirstname());
+        verify(talentService, never()).getSerializedTalentsPage(anyInt(), anyInt());
+    }
+
     @Test
     @Order(2)
     @DisplayName("[US-2] - Get talent profile successfully")
@@ -113,6 +176,26 @@ public class TalentControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.email").doesNotExist());
     }
 
+    @Test
+    @Order(2)
+    @DisplayName("[US-2] - Answer 304 for unchanged talent profile without building it")
+    void answerNotModifiedForUnchangedTalentProfile() throws Exception {
+        given(talentService.getTalentProfileETag(talent.getId()))
+                .willReturn(talent.getId() + "-3");
+
+        ResultActions response = mockMvc
+                .perform(MockMvcRequestBuilders.get("/api/v1/talents/{id}", talent.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + talent.getId() + "-3\"")
+                        .accept(MediaType.APPLICATION_JSON));
+
+        response
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"" + talent.getId() + "-3\""))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"));
+        verify(talentService, never()).getTalentProfileById(anyLong());
+    }
+
     @Test
     @Order(3)
     @DisplayName("[US-2] - Get own profile successfully")
@@ -259,6 +342,50 @@ public class TalentControllerTest {
                 .andExpect(status().isNoContent());
     }
 
+    @Test
+    @Order(9)
+    @DisplayName("[US-22] - Reject blank or invalid email availability check")
+    void rejectBlankOrInvalidEmailAvailabilityCheck() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/talents/email-availability")
+                        .param("email", " ")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/talents/email-availability")
+                        .param("email", "john.doe")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.status().reason("Email should be valid"));
+
+        verifyNoInteractions(talentService);
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("[US-24] - Get sparse talent profile by fields")
+    void getSparseTalentProfileByFields() throws Exception {
+        given(talentService.getTalentProfileById(talent.getId(), "firstname"))
+                .willReturn(Map.of("id", talent.getId(), "firstname", talent.getFirstname()));
+        given(talentService.getTalentProfileById(talent.getId(), "password"))
+                .willThrow(new BadRequestException("Fields should be from [id, firstname]"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/talents/{id}", talent.getId())
+                        .param("fields", "firstname")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.firstname").value(talent.getFirstname()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.lastname").doesNotExist());
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/talents/{id}", talent.getId())
+                        .param("fields", "password")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+
+        verify(talentService, never()).getTalentProfileById(talent.getId());
+    }
+
 
     private TalentRegistration generateRegistrationRequest() {
         TalentRegistration registrationRequest = new TalentRegistration();
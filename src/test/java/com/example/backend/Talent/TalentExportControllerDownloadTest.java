@@ -0,0 +1,122 @@
+package com.example.backend.Talent;
+
+import com.example.backend.jwt.JwtTokenProvider;
+import com.example.backend.talent.controller.TalentExportController;
+import com.example.backend.talent.export.ExportFormat;
+import com.example.backend.talent.export.ExportJob;
+import com.example.backend.talent.export.ExportJobService;
+import com.example.backend.talent.export.TalentExportService;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@AutoConfigureMockMvc(addFilters = false)
+@WebMvcTest(TalentExportController.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class TalentExportControllerDownloadTest {
+    private static final String CONTENT = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<talents>\n</talents>\n";
+
+    @MockBean
+    ExportJobService exportJobService;
+    @MockBean
+    TalentExportService talentExportService;
+    @MockBean
+    JwtTokenProvider jwtTokenProvider;
+    @Autowired
+    MockMvc mockMvc;
+    @TempDir
+    Path directory;
+
+    private ExportJob queuedJob;
+
+    @BeforeEach
+    public void setUp() {
+        queuedJob = ExportJob.queued("job", ExportFormat.XML, System.currentTimeMillis());
+    }
+
+    private void completedJob() throws Exception {
+        Path file = Files.writeString(directory.resolve("job.xml"), CONTENT);
+        ExportJob job = queuedJob.running(0).completed(CONTENT.length(), System.currentTimeMillis());
+        when(exportJobService.getJob("job")).thenReturn(job);
+        when(exportJobService.getCompletedFile(job)).thenReturn(file);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("[US-2] - Download whole file of completed export job")
+    void downloadWholeFileOfCompletedExportJob() throws Exception {
+        completedJob();
+
+        mockMvc.perform(get("/api/v1/talents/export/jobs/job/file"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENT.length()))
+                .andExpect(content().string(CONTENT));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("[US-2] - Download byte range of completed export job")
+    void downloadByteRangeOfCompletedExportJob() throws Exception {
+        completedJob();
+
+        mockMvc.perform(get("/api/v1/talents/export/jobs/job/file").header(HttpHeaders.RANGE, "bytes=5-9"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 5-9/" + CONTENT.length()))
+                .andExpect(content().string(CONTENT.substring(5, 10)));
+        mockMvc.perform(get("/api/v1/talents/export/jobs/job/file").header(HttpHeaders.RANGE, "bytes=10-"))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string(CONTENT.substring(10)));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("[US-2] - Reject byte range outside of file")
+    void rejectByteRangeOutsideOfFile() throws Exception {
+        completedJob();
+
+        mockMvc.perform(get("/api/v1/talents/export/jobs/job/file").header(HttpHeaders.RANGE, "bytes=1000-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + CONTENT.length()));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("[US-2] - Return status of export job which is not completed")
+    void returnStatusOfExportJobWhichIsNotCompleted() throws Exception {
+        when(exportJobService.getJob("job")).thenReturn(queuedJob.running(10));
+        mockMvc.perform(get("/api/v1/talents/export/jobs/job/file"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("RUNNING"));
+
+        when(exportJobService.getJob("job")).thenReturn(queuedJob.failed("Database is down", System.currentTimeMillis()));
+        mockMvc.perform(get("/api/v1/talents/export/jobs/job/file"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value("FAILED"))
+                .andExpect(jsonPath("$.error").value("Database is down"));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("[US-2] - Reject export job with unknown format")
+    void rejectExportJobWithUnknownFormat() throws Exception {
+        mockMvc.perform(post("/api/v1/talents/export/jobs").param("format", "pdf"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(exportJobService);
+    }
+}
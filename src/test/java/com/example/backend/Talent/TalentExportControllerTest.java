@@ -0,0 +1,93 @@
+package com.example.backend.Talent;
+
+import com.example.backend.jwt.JwtTokenProvider;
+import com.example.backend.principal.Role;
+import com.example.backend.principal.RoleResolver;
+import com.example.backend.talent.model.entity.Talent;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.example.backend.jwt.JwtConstant.TOKEN_HEADER;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "security.admin-emails=admin@gmail.com")
+@AutoConfigureMockMvc
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class TalentExportControllerTest {
+    private static final String EXPORT_URL = "/api/v1/talents/export";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    @Autowired
+    private RoleResolver roleResolver;
+
+    @Test
+    @Order(1)
+    @DisplayName("[US-2] - Reject anonymous export")
+    void rejectAnonymousExport() throws Exception {
+        mockMvc.perform(get(EXPORT_URL))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get(EXPORT_URL + "/jobs/unknown"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("[US-2] - Reject export by talent")
+    void rejectExportByTalent() throws Exception {
+        mockMvc.perform(get(EXPORT_URL).with(user("john.doe@gmail.com").authorities(new SimpleGrantedAuthority(Role.TALENT.name()))))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("[US-2] - Gzip export only when client accepts gzip")
+    void gzipExportOnlyWhenClientAcceptsGzip() throws Exception {
+        mockMvc.perform(get(EXPORT_URL).with(user("admin").authorities(new SimpleGrantedAuthority(Role.ADMIN.name())))
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+        mockMvc.perform(get(EXPORT_URL).with(user("admin").authorities(new SimpleGrantedAuthority(Role.ADMIN.name())))
+                        .header(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.5"))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("[US-2] - Allow export with token of configured admin")
+    void allowExportWithTokenOfConfiguredAdmin() throws Exception {
+        String adminToken = token(" Admin@gmail.com");
+        String talentToken = token("john.doe@gmail.com");
+
+        mockMvc.perform(get(EXPORT_URL).header(HttpHeaders.AUTHORIZATION, TOKEN_HEADER + adminToken))
+                .andExpect(request().asyncStarted());
+        mockMvc.perform(get(EXPORT_URL).header(HttpHeaders.AUTHORIZATION, TOKEN_HEADER + talentToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("[US-2] - Reject export with malformed Accept header")
+    void rejectExportWithMalformedAcceptHeader() throws Exception {
+        mockMvc.perform(get(EXPORT_URL).with(user("admin").authorities(new SimpleGrantedAuthority(Role.ADMIN.name())))
+                        .header(HttpHeaders.ACCEPT, "text/"))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    private String token(String email) {
+        Talent talent = Talent.builder().id(1L).email(email).firstname("John").build();
+        return jwtTokenProvider.generateJwtToken(talent, roleResolver.resolve(email));
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.backend.Talent;
+
+import com.example.backend.talent.export.ExportFormat;
+import com.example.backend.talent.export.TalentExportWriter;
+import com.example.backend.talent.model.entity.Talent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class TalentExportWriterTest {
+    private Talent talent;
+    private Talent emptyTalent;
+
+    @BeforeEach
+    public void setUp() {
+        talent = Talent.builder()
+                .id(1L)
+                .lastname("Doe, \"Jr\"")
+                .firstname("John")
+                .email("john.doe@gmail.com")
+                .password("secret-hash")
+                .birthday(LocalDate.of(2000, 1, 2))
+                .aboutMe("Likes <xml> & \"csv\"\nsecond line\u0001")
+                .skills(Set.of("Java"))
+                .build();
+        emptyTalent = Talent.builder()
+                .id(2L)
+                .firstname("Anna")
+                .build();
+    }
+
+    private String export(ExportFormat format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        TalentExportWriter writer = format.createWriter(output);
+        writer.writeHeader();
+        writer.write(talent);
+        writer.write(emptyTalent);
+        writer.writeFooter();
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("[US-2] - Export talents as CSV with quoted values")
+    void exportTalentsAsCsv() throws IOException {
+        String csv = export(ExportFormat.CSV);
+
+        assertThat(csv).isEqualTo("""
+                id,lastname,firstname,avatar,banner,email,location,birthday,about_me,skills
+                1,"Doe, ""Jr""\",John,,,john.doe@gmail.com,,2000-01-02,"Likes <xml> & ""csv""
+                second line\u0001",Java
+                2,,Anna,,,,,,,
+                """);
+        assertThat(csv).doesNotContain("secret-hash");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("[US-2] - Export talents as JSON lines")
+    void exportTalentsAsJsonLines() throws IOException {
+        List<String> lines = export(ExportFormat.JSON_LINES).lines().toList();
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("id").asLong()).isEqualTo(1L);
+        assertThat(first.get("lastname").asText()).isEqualTo("Doe, \"Jr\"");
+        assertThat(first.get("about_me").asText()).isEqualTo(talent.getAboutMe());
+        assertThat(first.get("birthday").asText()).isEqualTo("2000-01-02");
+        assertThat(first.get("skills").get(0).asText()).isEqualTo("Java");
+        assertThat(first.has("password")).isFalse();
+
+        JsonNode second = objectMapper.readTree(lines.get(1));
+        assertThat(second.has("lastname")).isFalse();
+        assertThat(second.get("skills").isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("[US-2] - Export talents as well-formed XML")
+    void exportTalentsAsXml() throws Exception {
+        String xml = export(ExportFormat.XML);
+
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+        Element first = (Element) document.getElementsByTagName("talent").item(0);
+
+        assertThat(document.getElementsByTagName("talent").getLength()).isEqualTo(2);
+        assertThat(first.getElementsByTagName("lastname").item(0).getTextContent()).isEqualTo("Doe, \"Jr\"");
+        assertThat(first.getElementsByTagName("about_me").item(0).getTextContent())
+                .isEqualTo("Likes <xml> & \"csv\"\nsecond line");
+        assertThat(first.getElementsByTagName("skill").item(0).getTextContent()).isEqualTo("Java");
+        assertThat(xml).doesNotContain("secret-hash");
+    }
+}
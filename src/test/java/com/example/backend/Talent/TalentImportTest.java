@@ -0,0 +1,185 @@
+package com.example.backend.Talent;
+
+import com.example.backend.payload.AuthResponse;
+import com.example.backend.principal.Role;
+import com.example.backend.talent.importer.ImportFormat;
+import com.example.backend.talent.importer.ImportReport;
+import com.example.backend.talent.importer.ImportRowError;
+import com.example.backend.talent.importer.TalentBatchWriter;
+import com.example.backend.talent.importer.TalentImportService;
+import com.example.backend.talent.model.entity.Talent;
+import com.example.backend.talent.repository.TalentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static com.example.backend.jwt.JwtConstant.TOKEN_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "security.admin-emails=admin@gmail.com")
+@AutoConfigureMockMvc
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class TalentImportTest {
+
+    @Autowired
+    private TalentImportService talentImportService;
+
+    @Autowired
+    private TalentRepository talentRepository;
+
+    @SpyBean
+    private TalentBatchWriter talentBatchWriter;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    @AfterEach
+    public void tearDown() {
+        talentRepository.deleteAll();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("[US-2] - Import talents from NDJSON and report rejected rows")
+    void importTalentsFromJsonLines() throws Exception {
+        talentRepository.save(Talent.builder()
+                .lastname("Doe")
+                .firstname("John")
+                .email("john.doe@gmail.com")
+                .password("1234567890")
+                .skills(Set.of("Java"))
+                .build());
+
+        String file = """
+                {"lastname":"Smith","firstname":"Anna","email":"anna@gmail.com","password":"123456","skills":["Java","Go"]}
+                {"lastname":"Doe","firstname":"John","email":"JOHN.DOE@gmail.com","password":"123456","skills":["Java"]}
+                {"lastname":"","firstname":"Bob","email":"bob@gmail.com","password":"123456","skills":["Java"]}
+                {"lastname":"Smith","firstname":"Anna","email":"Anna@gmail.com","password":"123456","skills":["Java"]}
+                {broken
+
+                {"lastname":"Lee","firstname":"Kim","email":"kim@gmail.com","password":"123456","skills":[]}
+                """;
+
+        ImportReport report = talentImportService.importTalents(
+                new ByteArrayInputStream(file.getBytes(StandardCharsets.UTF_8)), ImportFormat.JSON_LINES);
+
+        assertThat(report.totalRows()).isEqualTo(6);
+        assertThat(report.importedRows()).isEqualTo(1);
+        assertThat(report.failedRows()).isEqualTo(5);
+        assertThat(report.errors()).extracting(ImportRowError::line).containsExactly(2L, 3L, 4L, 5L, 7L);
+        assertThat(talentRepository.findByEmail("anna@gmail.com")).get()
+                .satisfies(talent -> assertThat(talent.getSkills()).containsExactlyInAnyOrder("Java", "Go"));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("[US-2] - Import talents from CSV with ids not colliding with regular registration")
+    void importTalentsFromCsv() throws Exception {
+        String file = """
+                lastname,firstname,email,password,skills
+                Smith,Anna,anna@gmail.com,123456,"Java;Spring Boot"
+                "Doe, Jr",John,john@gmail.com,123456,Go
+                """;
+
+        ImportReport report = talentImportService.importTalents(
+                new ByteArrayInputStream(file.getBytes(StandardCharsets.UTF_8)), ImportFormat.CSV);
+        Talent registered = talentRepository.save(Talent.builder()
+                .lastname("Lee")
+                .firstname("Kim")
+                .email("kim@gmail.com")
+                .password("1234567890")
+                .skills(Set.of("Java"))
+                .build());
+
+        assertThat(report.importedRows()).isEqualTo(2);
+        assertThat(report.errors()).isEmpty();
+        assertThat(talentRepository.findByEmail("john@gmail.com")).get()
+                .extracting(Talent::getLastname).isEqualTo("Doe, Jr");
+        assertThat(talentRepository.findByEmail("anna@gmail.com")).get()
+                .satisfies(talent -> assertThat(talent.getSkills()).containsExactlyInAnyOrder("Java", "Spring Boot"));
+        assertThat(talentRepository.count()).isEqualTo(3);
+        assertThat(registered.getId()).isNotNull();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("[US-2] - Retry failed batch row by row and reject only the failed row")
+    void retryFailedBatchRowByRow() throws Exception {
+        doAnswer(invocation -> {
+            List<Talent> talents = invocation.getArgument(0);
+            if (talents.stream().anyMatch(talent -> talent.getEmail().equals("broken@gmail.com"))) {
+                throw new DataIntegrityViolationException("Broken row");
+            }
+            return invocation.callRealMethod();
+        }).when(talentBatchWriter).insert(anyList());
+        String file = """
+                lastname,firstname,email,password,skills
+                Smith,Anna,anna@gmail.com,123456,Java
+                Broken,Row,broken@gmail.com,123456,Java
+                Doe,John,john@gmail.com,123456,Go
+                """;
+
+        ImportReport report = talentImportService.importTalents(
+                new ByteArrayInputStream(file.getBytes(StandardCharsets.UTF_8)), ImportFormat.CSV);
+
+        assertThat(report.importedRows()).isEqualTo(2);
+        assertThat(report.failedRows()).isEqualTo(1);
+        assertThat(report.errors()).extracting(ImportRowError::email).containsExactly("broken@gmail.com");
+        assertThat(talentRepository.findByEmail("anna@gmail.com")).isPresent();
+        assertThat(talentRepository.findByEmail("john@gmail.com")).isPresent();
+        assertThat(talentRepository.findByEmail("broken@gmail.com")).isEmpty();
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("[US-2] - Allow import only to configured admins")
+    void allowImportOnlyToConfiguredAdmins() throws Exception {
+        String file = """
+                lastname,firstname,email,password,skills
+                Smith,Anna,anna@gmail.com,123456,Java
+                """;
+
+        mockMvc.perform(post("/api/v1/talents/import").contentType("text/csv").content(file))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/v1/talents/import").contentType("text/csv").content(file)
+                        .with(user("john.doe@gmail.com").authorities(new SimpleGrantedAuthority(Role.TALENT.name()))))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/v1/talents/import").contentType("text/csv").content(file)
+                        .header(HttpHeaders.AUTHORIZATION, TOKEN_HEADER + registerAdmin()))
+                .andExpect(status().isOk());
+
+        assertThat(talentRepository.findByEmail("anna@gmail.com")).isPresent();
+    }
+
+    private String registerAdmin() throws Exception {
+        String registration = """
+                {"lastname":"Admin","firstname":"Admin","email":"admin@gmail.com","password":"123456","skills":["Java"]}
+                """;
+        String response = mockMvc.perform(post("/api/v1/talents").contentType(MediaType.APPLICATION_JSON).content(registration))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(response, AuthResponse.class).jwtToken();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.backend.Talent;
+
+import com.example.backend.pagination.PageWithMetadata;
+import com.example.backend.talent.cache.TalentListingPageCache;
+import com.example.backend.talent.event.TalentChangeSequence;
+import com.example.backend.talent.event.TalentChangedEvent;
+import com.example.backend.talent.model.TalentChangeMarker;
+import com.example.backend.talent.repository.TalentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class TalentListingPageCacheTest {
+    private TalentChangeSequence changeSequence;
+    private TalentListingPageCache listingPageCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        changeSequence = new TalentChangeSequence(mock(TalentRepository.class), Duration.ofSeconds(10));
+        listingPageCache = new TalentListingPageCache(objectMapper, changeSequence, new SimpleMeterRegistry(),
+                3, 64, Duration.ofSeconds(10));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("[US-1] - Serialize listing page once with gzip variant")
+    void serializeListingPageOnce() throws Exception {
+        TalentListingPageCache.SerializedPage first = listingPageCache.get(0, 9, this::loadPage);
+        TalentListingPageCache.SerializedPage second = listingPageCache.get(0, 9, this::loadPage);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(new String(first.json(), StandardCharsets.UTF_8)).isEqualTo("{\"content\":[],\"total_pages\":1}");
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(first.gzip()))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(first.json());
+        }
+        assertThat(listingPageCache.isCached(2)).isTrue();
+        assertThat(listingPageCache.isCached(3)).isFalse();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("[US-1] - Rebuild listing page after talent change")
+    void rebuildListingPageAfterTalentChange() {
+        listingPageCache.get(0, 9, this::loadPage);
+
+        TalentChangedEvent event = TalentChangedEvent.deleted(1L);
+        changeSequence.onTalentChanged(event);
+        listingPageCache.onTalentChanged(event);
+        listingPageCache.get(0, 9, this::loadPage);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("[US-1] - Change listing ETag after write committed on another node")
+    void changeListingETagAfterRemoteWrite() {
+        TalentRepository talentRepository = mock(TalentRepository.class);
+        when(talentRepository.findChangeMarker())
+                .thenReturn(new TalentChangeMarker(2L, 2L, 0L), new TalentChangeMarker(2L, 2L, 1L));
+        TalentChangeSequence sequence = new TalentChangeSequence(talentRepository, Duration.ZERO);
+
+        String before = sequence.getETag();
+        String after = sequence.getETag();
+
+        assertThat(sequence.getValue()).isZero();
+        assertThat(after).isNotEqualTo(before);
+    }
+
+    private PageWithMetadata<?> loadPage() {
+        loads.incrementAndGet();
+        return new PageWithMetadata<>(List.of(), 1);
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.backend.Talent;
+
+import com.example.backend.pagination.PageWithMetadata;
+import com.example.backend.talent.export.ExportFormat;
+import com.example.backend.talent.export.TalentExportService;
+import com.example.backend.talent.model.entity.Talent;
+import com.example.backend.talent.repository.TalentRepository;
+import com.example.backend.talent.service.TalentService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class TalentListingQueryCountTest {
+
+    private static final int TALENTS_COUNT = 30;
+
+    @Autowired
+    private TalentRepository talentRepository;
+
+    @Autowired
+    private TalentService talentService;
+
+    @Autowired
+    private TalentExportService talentExportService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private List<Talent> talents;
+
+    @BeforeEach
+    public void setUp() {
+        talents = IntStream.range(0, TALENTS_COUNT)
+                .mapToObj(i -> Talent.builder()
+                        .lastname("Doe")
+                        .firstname("John")
+                        .email("john.doe" + i + "@gmail.com")
+                        .password("1234567890")
+                        .skills(Set.of("Java", "Spring", "Skill " + i))
+                        .build())
+                .toList();
+        talents = talentRepository.saveAll(talents);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        talentRepository.deleteAll();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("[US-1] - Listing page runs constant number of statements")
+    void listingPageRunsConstantNumberOfStatements() {
+        long smallPageStatements = countStatements(() -> talentService.getAllTalents(0, 3));
+        long largePageStatements = countStatements(() -> talentService.getAllTalents(0, 25));
+
+        /* page query, count query and one skills query for the whole page */
+        assertThat(smallPageStatements).isEqualTo(3);
+        assertThat(largePageStatements).isEqualTo(smallPageStatements);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("[US-1] - Cursor page runs constant number of statements")
+    void cursorPageRunsConstantNumberOfStatements() {
+        long smallPageStatements = countStatements(() -> talentService.getTalentsAfter(null, 3));
+        long largePageStatements = countStatements(() -> talentService.getTalentsAfter(null, 25));
+
+        /* seek query and one skills query for the whole page */
+        assertThat(smallPageStatements).isEqualTo(2);
+        assertThat(largePageStatements).isEqualTo(smallPageStatements);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("[US-2] - Batch of profiles runs constant number of statements")
+    void batchOfProfilesRunsConstantNumberOfStatements() {
+        List<Long> ids = talents.stream().map(Talent::getId).toList();
+
+        long smallBatchStatements = countStatements(() -> talentService.getTalentProfilesByIds(ids.subList(0, 3)));
+        long largeBatchStatements = countStatements(() -> talentService.getTalentProfilesByIds(ids.subList(3, 28)));
+        long cachedBatchStatements = countStatements(() -> talentService.getTalentProfilesByIds(ids.subList(0, 28)));
+
+        /* one query fetching talents with their skills for the whole batch, nothing for cached profiles */
+        assertThat(smallBatchStatements).isEqualTo(1);
+        assertThat(largeBatchStatements).isEqualTo(smallBatchStatements);
+        assertThat(cachedBatchStatements).isZero();
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("[US-1] - Sparse listing loads only requested fields")
+    void sparseListingLoadsOnlyRequestedFields() {
+        var page = new AtomicReference<PageWithMetadata<Map<String, Object>>>();
+
+        long statements = countStatements(() -> page.set(talentService.getAllTalents(0, 5, "avatar, firstname")));
+        long repeatedStatements = countStatements(() -> talentService.getAllTalents(1, 5, "firstname, avatar"));
+
+        /* page query and change marker query, skills are not requested and marker is reused by the next page */
+        assertThat(statements).isEqualTo(2);
+        assertThat(repeatedStatements).isEqualTo(1);
+        assertThat(page.get().getTotalPages()).isEqualTo(TALENTS_COUNT / 5);
+        assertThat(page.get().getContent()).hasSize(5);
+        assertThat(page.get().getContent().get(0).keySet()).containsExactly("id", "firstname", "avatar");
+        assertThat(page.get().getContent().get(0).get("id")).isEqualTo(talents.get(TALENTS_COUNT - 1).getId());
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("[US-2] - Export runs two statements per chunk")
+    void exportRunsTwoStatementsPerChunk() {
+        var output = new ByteArrayOutputStream();
+        var exported = new AtomicLong();
+
+        long statements = countStatements(() -> {
+            try {
+                exported.set(talentExportService.export(output, ExportFormat.CSV));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        /* ids of the chunk, talents of the chunk with skills, then an empty ids query */
+        assertThat(exported.get()).isEqualTo(TALENTS_COUNT);
+        assertThat(statements).isEqualTo(3);
+        assertThat(output.toString(StandardCharsets.UTF_8)).contains("Skill 29");
+    }
+
+    private long countStatements(Runnable listing) {
+        statistics.clear();
+        listing.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
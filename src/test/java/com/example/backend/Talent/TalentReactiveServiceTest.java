@@ -0,0 +1,64 @@
+package com.example.backend.Talent;
+
+import com.example.backend.jwt.JwtClaims;
+import com.example.backend.talent.model.response.TalentProfile;
+import com.example.backend.talent.service.TalentReactiveService;
+import com.example.backend.talent.service.TalentService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith({MockitoExtension.class})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class TalentReactiveServiceTest {
+
+    @Mock
+    private TalentService talentService;
+
+    private TalentReactiveService talentReactiveService;
+
+    @BeforeEach
+    public void setUp() {
+        talentReactiveService = new TalentReactiveService(talentService, new SimpleMeterRegistry(), 2, 10);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        talentReactiveService.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("[US-2] - Read talent profile off request thread with caller security context")
+    void readTalentProfileWithCallerSecurityContext() {
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                new JwtClaims("john.doe@gmail.com", 1L, "TALENT", Instant.now().plusSeconds(60)), null, List.of());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        TalentProfile profile = new TalentProfile();
+        AtomicReference<Authentication> readAuthentication = new AtomicReference<>();
+        AtomicReference<String> readThread = new AtomicReference<>();
+        when(talentService.getTalentProfileById(1L)).thenAnswer(invocation -> {
+            readAuthentication.set(SecurityContextHolder.getContext().getAuthentication());
+            readThread.set(Thread.currentThread().getName());
+            return profile;
+        });
+
+        assertThat(talentReactiveService.getTalentProfileById(1L).block()).isSameAs(profile);
+        assertThat(readAuthentication.get()).isSameAs(authentication);
+        assertThat(readThread.get()).startsWith("talent-read");
+    }
+}
@@ -1,35 +1,54 @@
 package com.example.backend.Talent;
 
+import com.example.backend.jwt.JwtClaims;
 import com.example.backend.jwt.JwtTokenProvider;
 import com.example.backend.mapper.TalentMapper;
+import com.example.backend.pagination.CursorPage;
+import com.example.backend.pagination.PageCursor;
 import com.example.backend.pagination.PageWithMetadata;
+import com.example.backend.pagination.exception.InvalidCursorException;
 import com.example.backend.payload.AuthResponse;
+import com.example.backend.principal.RoleResolver;
+import com.example.backend.talent.cache.TalentProfileCache;
+import com.example.backend.talent.event.TalentChangedEvent;
+import com.example.backend.talent.exception.DeniedAccessException;
 import com.example.backend.talent.exception.TalentExistsException;
 import com.example.backend.talent.exception.TalentNotFoundException;
 import com.example.backend.talent.model.entity.Talent;
 import com.example.backend.talent.model.request.TalentEdit;
 import com.example.backend.talent.model.request.TalentLogin;
 import com.example.backend.talent.model.request.TalentRegistration;
+import com.example.backend.talent.model.response.EmailAvailability;
 import com.example.backend.talent.model.response.TalentGeneralInfo;
+import com.example.backend.talent.model.response.TalentProfile;
 import com.example.backend.talent.repository.TalentRepository;
+import com.example.backend.talent.search.RegisteredEmailFilter;
+import com.example.backend.talent.search.SkillIndex;
+import com.example.backend.talent.search.TalentTextIndex;
 import com.example.backend.talent.service.TalentService;
+import com.example.backend.utils.service.AccessVerifyService;
+import com.example.backend.utils.service.PasswordHashingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.exceptions.base.MockitoException;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -38,7 +57,9 @@ import java.util.Set;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.when;
@@ -52,11 +73,24 @@ public class TalentServiceTest {
     @Mock
     private TalentMapper talentMapper;
     @Mock
-    private PasswordEncoder passwordEncoder;
-    @Mock
-    private AuthenticationManager authenticationManager;
+    private PasswordHashingService passwordHashingService;
     @Mock
     private JwtTokenProvider jwtTokenProvider;
+    @Mock
+    private RoleResolver roleResolver;
+    @Mock
+    private AccessVerifyService accessVerifyService;
+    @Mock
+    private SkillIndex skillIndex;
+    @Mock
+    private TalentTextIndex talentTextIndex;
+    @Mock
+    private RegisteredEmailFilter registeredEmailFilter;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Spy
+    private TalentProfileCache talentProfileCache =
+            new TalentProfileCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
     @InjectMocks
     private TalentService talentService;
 
@@ -81,50 +115,79 @@ public class TalentServiceTest {
     @Order(1)
     @DisplayName("[US-1] - Get all talents successfully")
     void getAllTalentsSuccessfully() {
-        List<Talent> talents = Arrays.asList(
-                talent,
-                Talent.builder()
-                        .id(2L)
-                        .lastname("John")
-                        .firstname("Doe")
-                        .email("john.doe@gmail.com")
-                        .password("123")
-                        .skills(Set.of("Java", "Spring"))
-                        .build()
-        );
-
-        Page<Talent> talentsPage = new PageImpl<>(talents);
-
         List<TalentGeneralInfo> talentGeneralInfos = Arrays.asList(
-                TalentGeneralInfo.builder()
-                        .id(talent.getId())
-                        .lastname(talent.getLastname())
-                        .firstname(talent.getFirstname())
-                        .skills(talent.getSkills())
-                        .build(),
-                TalentGeneralInfo.builder()
-                        .id(2L)
-                        .lastname("John")
-                        .firstname("Doe")
-                        .skills(Set.of("Java", "Spring"))
-                        .build()
+                new TalentGeneralInfo(2L, "John", "Doe", null, null),
+                new TalentGeneralInfo(talent.getId(), talent.getLastname(), talent.getFirstname(), null, null)
         );
 
-        when(talentMapper.toTalentGeneralInfos(anyList())).thenReturn(talentGeneralInfos);
+        Page<TalentGeneralInfo> talentsPage = new PageImpl<>(talentGeneralInfos);
 
-        when(talentRepository.findAllByOrderByIdDesc(any(PageRequest.class))).thenReturn(talentsPage);
+        when(talentRepository.findGeneralInfos(any(PageRequest.class))).thenReturn(talentsPage);
+
+        when(talentRepository.findSkillsByTalentIds(anyCollection())).thenReturn(List.of(
+                new Object[]{2L, "Java"},
+                new Object[]{talent.getId(), "Java"},
+                new Object[]{talent.getId(), "Spring"}
+        ));
 
         PageWithMetadata<TalentGeneralInfo> result = talentService.getAllTalents(0, 9);
 
-        verify(talentRepository, times(1)).findAllByOrderByIdDesc(PageRequest.of(0, 9));
+        verify(talentRepository, times(1)).findGeneralInfos(PageRequest.of(0, 9));
 
-        verify(talentMapper, times(1)).toTalentGeneralInfos(talents);
+        verify(talentRepository, times(1)).findSkillsByTalentIds(anyCollection());
 
         assertThat(result.getContent()).isEqualTo(talentGeneralInfos);
         assertThat(result.getTotalPages()).isEqualTo(1);
-        assertThat(result.getContent().get(0).getId()).isEqualTo(talentGeneralInfos.get(0).getId());
+        assertThat(result.getContent().get(0).getSkills()).containsExactly("Java");
+        assertThat(result.getContent().get(1).getSkills()).containsExactlyInAnyOrder("Java", "Spring");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("[US-1] - Get talents after cursor")
+    void getTalentsAfterCursor() {
+        List<TalentGeneralInfo> talentGeneralInfos = List.of(
+                new TalentGeneralInfo(3L, "John", "Doe", null, null),
+                new TalentGeneralInfo(2L, "John", "Doe", null, null),
+                new TalentGeneralInfo(talent.getId(), talent.getLastname(), talent.getFirstname(), null, null)
+        );
+
+        when(talentRepository.findGeneralInfosByIdLessThan(10L, PageRequest.of(0, 3)))
+                .thenReturn(talentGeneralInfos);
+        when(talentRepository.findSkillsByTalentIds(anyCollection())).thenReturn(List.of());
+
+        CursorPage<TalentGeneralInfo> result = talentService.getTalentsAfter(PageCursor.encodeId(10L), 2);
+
+        assertThat(result.getContent()).extracting(TalentGeneralInfo::getId).containsExactly(3L, 2L);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(PageCursor.decodeId(result.getNextCursor())).isEqualTo(2L);
+        assertThat(PageCursor.decodeId(result.getPrevCursor())).isEqualTo(3L);
     }
 
+    @Test
+    @Order(2)
+    @DisplayName("[US-1] - Keep cursor of empty page before cursor")
+    void keepCursorOfEmptyPageBeforeCursor() {
+        when(talentRepository.findGeneralInfosByIdGreaterThan(10L, PageRequest.of(0, 3)))
+                .thenReturn(List.of());
+        when(talentRepository.existsByIdLessThan(10L)).thenReturn(true);
+
+        CursorPage<TalentGeneralInfo> result = talentService.getTalentsBefore(PageCursor.encodeId(10L), 2);
+
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(PageCursor.decodeId(result.getNextCursor())).isEqualTo(10L);
+        assertThat(result.getPrevCursor()).isNull();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("[US-1] - Fail get talents with malformed cursor")
+    void failGettingTalentsWithMalformedCursor() {
+        assertThrows(InvalidCursorException.class, () -> talentService.getTalentsAfter("not-a-cursor", 9));
+
+        verify(talentRepository, never()).findGeneralInfosByIdLessThan(anyLong(), any(PageRequest.class));
+    }
 
     @Test
     @Order(4)
@@ -137,12 +200,51 @@ public class TalentServiceTest {
         assertThrows(TalentNotFoundException.class, () -> talentService.getTalentProfileById(nonExistentTalentId));
     }
 
+    @Test
+    @Order(11)
+    @DisplayName("[US-2] - Get public talent profile from cache after first view")
+    void getPublicTalentProfileFromCache() {
+        TalentProfile profile = new TalentProfile();
+
+        when(talentRepository.findById(talent.getId())).thenReturn(Optional.of(talent));
+        when(talentMapper.toTalentProfile(talent)).thenReturn(profile);
+
+        assertThat(talentService.getTalentProfileById(talent.getId())).isSameAs(profile);
+        assertThat(talentService.getTalentProfileById(talent.getId())).isSameAs(profile);
+        verify(talentRepository, times(1)).findById(talent.getId());
+
+        talentProfileCache.onTalentChanged(TalentChangedEvent.updated(talent));
+        talentService.getTalentProfileById(talent.getId());
+        verify(talentRepository, times(2)).findById(talent.getId());
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("[US-23] - Do not cache batch loaded profile updated during the load")
+    void doNotCacheBatchLoadedProfileUpdatedDuringLoad() {
+        TalentProfile staleProfile = new TalentProfile();
+        TalentProfile freshProfile = new TalentProfile();
+
+        when(talentRepository.findWithSkillsByIdIn(List.of(talent.getId()))).thenAnswer(invocation -> {
+            /* update commits after the batch has read the talent but before it is cached */
+            talentProfileCache.onTalentChanged(TalentChangedEvent.updated(talent));
+            return List.of(talent);
+        }).thenReturn(List.of(talent));
+        when(talentMapper.toTalentProfile(talent)).thenReturn(staleProfile, freshProfile);
+
+        assertThat(talentService.getTalentProfilesByIds(List.of(talent.getId())).get(0).getProfile()).isSameAs(staleProfile);
+        assertThat(talentProfileCache.getIfPresent(talent.getId())).isNull();
+
+        assertThat(talentService.getTalentProfilesByIds(List.of(talent.getId())).get(0).getProfile()).isSameAs(freshProfile);
+        assertThat(talentProfileCache.getIfPresent(talent.getId())).isSameAs(freshProfile);
+    }
+
     @Test
     @Order(5)
     @DisplayName("[US-3] - Register new Talent successfully")
     void registerNewTalentSuccessfully() {
 
-        when(talentRepository.save(any()))
+        when(talentRepository.saveAndFlush(any()))
                 .thenReturn(talent);
 
         AuthResponse authResponse = talentService.addTalent(generateRegistrationRequest());
@@ -157,12 +259,39 @@ public class TalentServiceTest {
 
         String exceptionMessage = "The talent has already exists with email [" + talent.getEmail() + "]";
 
-        when(talentRepository.save(any()))
+        when(talentRepository.saveAndFlush(any()))
                 .thenThrow(new TalentExistsException(exceptionMessage));
 
         assertThrows(TalentExistsException.class, () -> talentService.addTalent(generateRegistrationRequest()));
     }
 
+    @Test
+    @Order(6)
+    @DisplayName("[US-3] - Register new Talent with email taken by concurrent registration")
+    void registerNewTalentWithEmailTakenConcurrently() {
+        when(talentRepository.saveAndFlush(any()))
+                .thenThrow(new DataIntegrityViolationException("Unique index or primary key violation: \"PUBLIC.UK_TALENT_NORMALIZED_EMAIL\""));
+
+        assertThrows(TalentExistsException.class, () -> talentService.addTalent(generateRegistrationRequest()));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("[US-3] - Check email availability without query when filter does not know the email")
+    void checkEmailAvailabilityWithoutQuery() {
+        when(registeredEmailFilter.mightContain("new@gmail.com")).thenReturn(false);
+        when(registeredEmailFilter.mightContain(" John.Doe@gmail.com")).thenReturn(true);
+        when(talentRepository.existsByNormalizedEmail("john.doe@gmail.com")).thenReturn(true);
+
+        EmailAvailability freeEmail = talentService.checkEmailAvailability("new@gmail.com");
+        EmailAvailability takenEmail = talentService.checkEmailAvailability(" John.Doe@gmail.com");
+
+        assertThat(freeEmail.isAvailable()).isTrue();
+        assertThat(takenEmail.isAvailable()).isFalse();
+        verify(talentRepository, never()).existsByNormalizedEmail("new@gmail.com");
+    }
+
     @Test
     @Order(7)
     @DisplayName("[US-3] - Register new Talent and forget input some data")
@@ -170,7 +299,7 @@ public class TalentServiceTest {
         TalentRegistration registrationRequest = generateRegistrationRequest();
         registrationRequest.setFirstname(null);
 
-        when(talentRepository.save(any()))
+        when(talentRepository.saveAndFlush(any()))
                 .thenThrow(new MockitoException(""));
 
         assertThrows(MockitoException.class, () -> talentService.addTalent(registrationRequest));
@@ -186,7 +315,7 @@ public class TalentServiceTest {
 
         when(talentRepository.findByEmail(loginRequest.getEmail())).thenReturn(Optional.of(talent));
 
-        when(passwordEncoder.matches(loginRequest.getPassword(), talent.getPassword())).thenReturn(true);
+        when(passwordHashingService.matches(loginRequest.getPassword(), talent.getPassword())).thenReturn(true);
 
         AuthResponse loggedInUser = talentService.login(loginRequest);
 
@@ -197,6 +326,23 @@ public class TalentServiceTest {
 
     @Test
     @Order(9)
+    @DisplayName("[US-3] - Log in with outdated password hash")
+    void loginWithOutdatedPasswordHash() {
+        TalentLogin loginRequest = new TalentLogin(talent.getEmail(), "12345");
+        String storedHash = talent.getPassword();
+
+        when(talentRepository.findByEmail(loginRequest.getEmail())).thenReturn(Optional.of(talent));
+        when(passwordHashingService.matches(loginRequest.getPassword(), storedHash)).thenReturn(true);
+        when(passwordHashingService.upgradeEncoding(storedHash)).thenReturn(true);
+        when(passwordHashingService.encode(loginRequest.getPassword())).thenReturn("{bcrypt}new-hash");
+
+        talentService.login(loginRequest);
+
+        verify(talentRepository).updatePassword(talent.getId(), storedHash, "{bcrypt}new-hash");
+    }
+
+    @Test
+    @Order(10)
     @DisplayName("[US-3] - Fail attempt of log in")
     void failLoginWithBadCredentials() {
         securitySetUp();
@@ -206,7 +352,7 @@ public class TalentServiceTest {
 
         when(talentRepository.findByEmail(loginRequestWithBadPassword.getEmail())).thenReturn(Optional.of(talent));
 
-        when(passwordEncoder.matches(loginRequestWithBadPassword.getPassword(), talent.getPassword())).thenReturn(false);
+        when(passwordHashingService.matches(loginRequestWithBadPassword.getPassword(), talent.getPassword())).thenReturn(false);
 
         assertThrows(BadCredentialsException.class, () -> talentService.login(loginRequestWithBadPassword));
 
@@ -228,8 +374,6 @@ public class TalentServiceTest {
     void failEditingOwnProfile() {
         securitySetUp();
 
-        willReturnOwnProfile();
-
         TalentEdit editRequest = TalentEdit.builder()
                 .lastname("Himonov")
                 .firstname("Mark")
@@ -245,12 +389,26 @@ public class TalentServiceTest {
     @Order(15)
     @DisplayName("[US-4] - Delete non-existent profile")
     void deleteNonExistentProfile() {
-        when(talentRepository.findById(nonExistentTalentId))
-                .thenThrow(new TalentNotFoundException("Talent was not found"));
+        JwtClaims claims = new JwtClaims(talent.getEmail(), nonExistentTalentId, "TALENT", Instant.now());
+
+        when(accessVerifyService.verifyOwnership(any(), anyString())).thenReturn(claims);
+        when(talentRepository.deleteByIdAndEmail(nonExistentTalentId, talent.getEmail())).thenReturn(0);
 
         assertThrows(TalentNotFoundException.class, () -> talentService.deleteTalent(nonExistentTalentId));
     }
 
+    @Test
+    @Order(16)
+    @DisplayName("[US-4] - Delete another talent profile")
+    void deleteAnotherTalentProfile() {
+        when(accessVerifyService.verifyOwnership(any(), anyString()))
+                .thenThrow(new DeniedAccessException("You are not allowed to delete this talent"));
+
+        assertThrows(DeniedAccessException.class, () -> talentService.deleteTalent(talent.getId()));
+
+        verifyNoInteractions(talentRepository);
+    }
+
 
     private void securitySetUp() {
         Authentication authentication = Mockito.mock(Authentication.class);
@@ -0,0 +1,156 @@
+package com.example.backend.Talent;
+
+import com.example.backend.talent.event.TalentChangedEvent;
+import com.example.backend.talent.event.TalentsImportedEvent;
+import com.example.backend.talent.model.TalentChangeMarker;
+import com.example.backend.talent.model.entity.Talent;
+import com.example.backend.talent.repository.TalentRepository;
+import com.example.backend.talent.search.TalentTextIndex;
+import com.example.backend.talent.search.TextMatch;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith({MockitoExtension.class})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class TalentTextIndexTest {
+
+    @Mock
+    private TalentRepository talentRepository;
+
+    private TalentTextIndex loadIndex(String snapshotPath) {
+        when(talentRepository.streamAllSearchableText()).thenReturn(Stream.of(
+                new Object[]{1L, "Dmytro", "Teliukov", "Kyiv", "Java developer"},
+                new Object[]{2L, "Olena", "Shevchenko", "Lviv", "Loves kyiv and java"},
+                new Object[]{3L, "Javier", "Petrenko", "Odesa", "Kotlin developer"}
+        ));
+        TalentTextIndex talentTextIndex = new TalentTextIndex(talentRepository, snapshotPath);
+        talentTextIndex.load();
+        return talentTextIndex;
+    }
+
+    private static List<Long> ids(List<TextMatch> matches) {
+        return matches.stream().map(TextMatch::talentId).toList();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("[US-8] - Match words ignoring case and punctuation")
+    void matchWordsIgnoringCaseAndPunctuation() {
+        TalentTextIndex talentTextIndex = loadIndex("");
+
+        assertThat(ids(talentTextIndex.search("KYIV!", null, 10))).containsExactly(1L, 2L);
+        assertThat(talentTextIndex.search(" ,. ", null, 10)).isEmpty();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("[US-8] - Find talent by word with a typo")
+    void findTalentByWordWithTypo() {
+        TalentTextIndex talentTextIndex = loadIndex("");
+
+        assertThat(ids(talentTextIndex.search("Dmitro", null, 10))).containsExactly(1L);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("[US-8] - Rank name matches above about me matches")
+    void rankNameMatchesAboveAboutMeMatches() {
+        TalentTextIndex talentTextIndex = loadIndex("");
+
+        List<TextMatch> matches = talentTextIndex.search("jav", null, 10);
+
+        assertThat(ids(matches)).containsExactly(3L, 2L, 1L);
+        assertThat(matches.get(0).score()).isGreaterThan(matches.get(1).score());
+        assertThat(matches.get(1).score()).isEqualTo(matches.get(2).score());
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("[US-8] - Continue search after cursor match")
+    void continueSearchAfterCursorMatch() {
+        TalentTextIndex talentTextIndex = loadIndex("");
+
+        List<TextMatch> first = talentTextIndex.search("jav", null, 2);
+        List<TextMatch> second = talentTextIndex.search("jav", first.get(first.size() - 1), 2);
+
+        assertThat(ids(first)).containsExactly(3L, 2L);
+        assertThat(ids(second)).containsExactly(1L);
+        assertThat(talentTextIndex.search("jav", second.get(0), 2)).isEmpty();
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("[US-8] - Keep index in sync with talent changes")
+    void keepIndexInSyncWithTalentChanges() {
+        TalentTextIndex talentTextIndex = loadIndex("");
+        long largeId = Integer.MAX_VALUE + 1L;
+
+        talentTextIndex.onTalentChanged(TalentChangedEvent.updated(Talent.builder()
+                .id(3L).firstname("Ivan").lastname("Petrenko").location("Odesa").build()));
+        talentTextIndex.onTalentChanged(TalentChangedEvent.deleted(2L));
+        talentTextIndex.onTalentChanged(TalentChangedEvent.created(Talent.builder()
+                .id(largeId).firstname("Iryna").aboutMe("Java").build()));
+
+        assertThat(ids(talentTextIndex.search("jav", null, 10))).containsExactly(largeId, 1L);
+        assertThat(ids(talentTextIndex.search("ivan", null, 10))).containsExactly(3L);
+        assertThat(talentTextIndex.search("olena", null, 10)).isEmpty();
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("[US-8] - Load index from snapshot without reading talents")
+    void loadIndexFromSnapshotWithoutReadingTalents(@TempDir Path directory) {
+        String snapshotPath = directory.resolve("text-index.bin").toString();
+        TalentTextIndex savedIndex = loadIndex(snapshotPath);
+        when(talentRepository.findChangeMarker()).thenReturn(new TalentChangeMarker(3L, 3L, 0L));
+        savedIndex.saveSnapshot();
+
+        TalentTextIndex loadedIndex = new TalentTextIndex(talentRepository, snapshotPath);
+        loadedIndex.load();
+
+        verify(talentRepository, times(1)).streamAllSearchableText();
+        assertThat(Files.exists(Path.of(snapshotPath))).isFalse();
+        assertThat(loadedIndex.search("jav", null, 10)).isEqualTo(savedIndex.search("jav", null, 10));
+        assertThat(ids(loadedIndex.search("Dmitro", null, 10))).containsExactly(1L);
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("[US-8] - Rebuild index when talent was updated after snapshot")
+    void rebuildIndexWhenTalentWasUpdatedAfterSnapshot(@TempDir Path directory) {
+        String snapshotPath = directory.resolve("text-index.bin").toString();
+        when(talentRepository.findChangeMarker()).thenReturn(
+                new TalentChangeMarker(3L, 3L, 0L), new TalentChangeMarker(3L, 3L, 1L));
+        loadIndex(snapshotPath).saveSnapshot();
+
+        loadIndex(snapshotPath);
+
+        verify(talentRepository, times(2)).streamAllSearchableText();
+        assertThat(Files.exists(Path.of(snapshotPath))).isFalse();
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("[US-8] - Index imported talents in one batch")
+    void indexImportedTalentsInOneBatch() {
+        TalentTextIndex talentTextIndex = loadIndex("");
+
+        talentTextIndex.onTalentsImported(new TalentsImportedEvent(List.of(
+                Talent.builder().id(4L).firstname("Oksana").aboutMe("Java").build(),
+                Talent.builder().id(5L).firstname("Taras").location("Kyiv").build())));
+
+        assertThat(ids(talentTextIndex.search("jav", null, 10))).containsExactly(3L, 4L, 2L, 1L);
+        assertThat(ids(talentTextIndex.search("kyiv", null, 10))).containsExactly(5L, 1L, 2L);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.backend.accesslog;
+
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class AccessLogRingBufferTest {
+
+    @Test
+    @Order(1)
+    @DisplayName("Drop records when buffer is full")
+    void dropRecordsWhenBufferIsFull() {
+        AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(ringBuffer.offer(i, "GET", "/api/v1/talents", 200, 10, 100, i)).isTrue();
+        }
+        assertThat(ringBuffer.offer(4, "GET", "/api/v1/talents", 200, 10, 100, 4)).isFalse();
+
+        List<Long> drained = new ArrayList<>();
+        assertThat(ringBuffer.drain(record -> drained.add(record.talentId), 10)).isEqualTo(4);
+        assertThat(drained).containsExactly(0L, 1L, 2L, 3L);
+        assertThat(ringBuffer.offer(5, "GET", "/api/v1/talents", 200, 10, 100, 5)).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Keep every accepted record with concurrent producers")
+    void keepEveryAcceptedRecordWithConcurrentProducers() throws Exception {
+        AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(1024);
+        int producers = 4;
+        int recordsPerProducer = 50_000;
+        AtomicLong accepted = new AtomicLong();
+        CountDownLatch finished = new CountDownLatch(producers);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+
+        for (int producer = 0; producer < producers; producer++) {
+            executor.execute(() -> {
+                for (int i = 0; i < recordsPerProducer; i++) {
+                    if (ringBuffer.offer(i, "GET", "/api/v1/talents/{id}", 200, 10, 100, 1)) {
+                        accepted.incrementAndGet();
+                    }
+                }
+                finished.countDown();
+            });
+        }
+
+        AtomicLong drained = new AtomicLong();
+        while (finished.getCount() > 0) {
+            ringBuffer.drain(record -> drained.addAndGet(record.talentId), 256);
+        }
+        while (ringBuffer.drain(record -> drained.addAndGet(record.talentId), 256) > 0) {
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(drained.get()).isEqualTo(accepted.get());
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.backend.jwt;
+
+import com.example.backend.talent.model.entity.Talent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class JwtTokenCacheTest {
+    private static final String SECRET = "test-secret-for-jwt-token-cache";
+
+    private final AtomicLong time = new AtomicLong();
+
+    @Test
+    @Order(1)
+    @DisplayName("Return cached value until it expires")
+    void returnCachedValueUntilItExpires() {
+        JwtTokenCache<String> cache = new JwtTokenCache<>(10, time::get);
+
+        cache.put("digest", "claims", 1000);
+        assertThat(cache.get("digest")).isEqualTo("claims");
+        assertThat(cache.get("unknown")).isNull();
+
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertThat(cache.get("digest")).isEqualTo("claims");
+
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(cache.get("digest")).isNull();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Skip values that are already expired")
+    void skipValuesThatAreAlreadyExpired() {
+        JwtTokenCache<String> cache = new JwtTokenCache<>(10, time::get);
+
+        cache.put("expired", "claims", 0);
+        cache.put("negative", "claims", -1000);
+
+        assertThat(cache.get("expired")).isNull();
+        assertThat(cache.get("negative")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Stay bounded and keep accepting entries when cache is full")
+    void stayBoundedWhenCacheIsFull() {
+        JwtTokenCache<Integer> cache = new JwtTokenCache<>(10, time::get);
+
+        for (int i = 0; i < 1000; i++) {
+            cache.put("digest-" + i, i, 60_000);
+        }
+        assertThat(cache.size()).isLessThanOrEqualTo(10);
+
+        time.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        cache.put("fresh", 1, 60_000);
+        assertThat(cache.get("fresh")).isEqualTo(1);
+        assertThat(cache.get("digest-999")).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Serve repeated valid token from cache")
+    void serveRepeatedValidTokenFromCache() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 10, 10, 30_000, meterRegistry, time::get);
+        String token = provider.generateJwtToken(Talent.builder()
+                .id(1L)
+                .firstname("Dmytro")
+                .email("dmytro@gmail.com")
+                .build());
+
+        assertThat(provider.verifyToken(token)).get()
+                .extracting(JwtClaims::subject).isEqualTo("dmytro@gmail.com");
+        assertThat(provider.verifyToken(token)).isPresent();
+
+        assertThat(meterRegistry.get("jwt.verify").tag("outcome", "verified").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.verify").tag("outcome", "cached").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Remember rejected token only for rejected ttl")
+    void rememberRejectedTokenOnlyForRejectedTtl() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 10, 10, 30_000, meterRegistry, time::get);
+
+        assertThat(provider.verifyToken("not-a-token")).isEmpty();
+        assertThat(provider.verifyToken("not-a-token")).isEmpty();
+        assertThat(meterRegistry.get("jwt.rejections").tag("reason", "cached").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.rejections").tag("reason", "JWTDecodeException").counter().count()).isEqualTo(1);
+
+        time.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        assertThat(provider.verifyToken("not-a-token")).isEmpty();
+        assertThat(meterRegistry.get("jwt.rejections").tag("reason", "cached").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.rejections").tag("reason", "JWTDecodeException").counter().count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.backend.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ *  Closed-loop load driver: every worker runs operation again as soon as previous response is received.
+ *  Latencies are recorded in microseconds into a histogram per worker, histograms are merged at the end
+ *
+ * */
+public class LoadDriver {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final int threads;
+    private final long warmupNanos;
+    private final long durationNanos;
+
+    public LoadDriver(int threads, long warmupSeconds, long durationSeconds) {
+        this.threads = threads;
+        this.warmupNanos = TimeUnit.SECONDS.toNanos(warmupSeconds);
+        this.durationNanos = TimeUnit.SECONDS.toNanos(durationSeconds);
+    }
+
+    public <T> LoadResult run(String scenario, LoadOperation<T> operation) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        AtomicLong errors = new AtomicLong();
+        long measureFrom = System.nanoTime() + warmupNanos;
+        long measureTo = measureFrom + durationNanos;
+
+        List<Future<Histogram>> futures = new ArrayList<>(threads);
+        for (int worker = 0; worker < threads; worker++) {
+            int workerIndex = worker;
+            futures.add(executor.submit(() -> {
+                Histogram latencies = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+                while (System.nanoTime() < measureTo) {
+                    T prepared = operation.prepare(workerIndex);
+                    long startedAt = System.nanoTime();
+                    int status;
+                    try {
+                        status = operation.execute(workerIndex, prepared);
+                    } catch (Exception e) {
+                        status = -1;
+                    }
+                    long finishedAt = System.nanoTime();
+                    if (startedAt < measureFrom) {
+                        continue;
+                    }
+                    latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(finishedAt - startedAt), HIGHEST_TRACKABLE_MICROS));
+                    if (status < 200 || status >= 300) {
+                        errors.incrementAndGet();
+                    }
+                }
+                return latencies;
+            }));
+        }
+
+        Histogram latencies = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        try {
+            for (Future<Histogram> future : futures) {
+                latencies.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Load worker failed in scenario " + scenario, e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return LoadResult.from(scenario, latencies, errors.get(), durationNanos);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.backend.load;
+
+/**
+ *  Operation executed by load workers in a loop
+ *
+ * @param <T> state prepared before every execution, it is not included in measured latency
+ * */
+@FunctionalInterface
+public interface LoadOperation<T> {
+    /**
+     * Prepare state for next execution, time of preparation is not measured
+     *
+     * @param worker index of worker
+     *
+     * @return prepared state
+     * */
+    default T prepare(int worker) throws Exception {
+        return null;
+    }
+
+    /**
+     * Execute operation
+     *
+     * @param worker index of worker
+     * @param prepared state returned by prepare
+     *
+     * @return HTTP status of response
+     * */
+    int execute(int worker, T prepared) throws Exception;
+}
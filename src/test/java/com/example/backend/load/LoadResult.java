@@ -0,0 +1,45 @@
+package com.example.backend.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  Result of one load scenario, latencies are in milliseconds
+ *
+ * */
+public record LoadResult(String scenario,
+                         long operations,
+                         long errors,
+                         double throughput,
+                         double p50,
+                         double p95,
+                         double p99,
+                         double p999) {
+
+    public static LoadResult from(String scenario, Histogram latencies, long errors, long elapsedNanos) {
+        double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        return new LoadResult(scenario,
+                latencies.getTotalCount(),
+                errors,
+                latencies.getTotalCount() / seconds,
+                millis(latencies.getValueAtPercentile(50)),
+                millis(latencies.getValueAtPercentile(95)),
+                millis(latencies.getValueAtPercentile(99)),
+                millis(latencies.getValueAtPercentile(99.9)));
+    }
+
+    public double errorRate() {
+        return operations == 0 ? 0 : errors / (double) operations;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-12s %8d ops %6d errors %10.1f ops/s   p50 %8.2f ms   p95 %8.2f ms   p99 %8.2f ms   p99.9 %8.2f ms",
+                scenario, operations, errors, throughput, p50, p95, p99, p999);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
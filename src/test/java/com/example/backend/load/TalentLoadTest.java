@@ -0,0 +1,262 @@
+package com.example.backend.load;
+
+import com.auth0.jwt.JWT;
+import com.example.backend.talent.model.entity.Talent;
+import com.example.backend.talent.model.response.TalentGeneralInfo;
+import com.example.backend.talent.repository.TalentRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.example.backend.jwt.JwtConstant.TALENT_ID_CLAIM;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ *  Load and latency harness for talent API.
+ *  Application is started on a random port with dataset generated by TalentDataGenerator, every scenario
+ *  is driven through HTTP and compared with the stored baseline. It is excluded from regular build:
+ *  ./mvnw -Pload test [-Dload.rows=20000 -Dload.threads=32 -Dload.duration-seconds=60 -Dload.update-baseline=true]
+ *
+ * */
+@Tag("load")
+@ActiveProfiles("dev")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"talent.generator.rows=${load.rows:5000}", "rate-limit.enabled=false"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class TalentLoadTest {
+    private static final String PASSWORD = "1234567890";
+    private static final int PAGE_SIZE = 20;
+
+    private final int threads = Integer.getInteger("load.threads", 16);
+    private final long warmupSeconds = Long.getLong("load.warmup-seconds", 5);
+    private final long durationSeconds = Long.getLong("load.duration-seconds", 20);
+    private final double regressionThreshold = Double.parseDouble(System.getProperty("load.regression-threshold", "0.25"));
+    private final double maxErrorRate = Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+    private final Path baselineFile = Path.of(System.getProperty("load.baseline", "src/test/resources/load/baseline.json"));
+    private final boolean updateBaseline = Boolean.getBoolean("load.update-baseline");
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TalentRepository talentRepository;
+
+    private List<String> emails;
+    private long[] talentIds;
+    private Session[] sessions;
+
+    private record Session(long talentId, String token) {
+    }
+
+    @BeforeAll
+    public void setUp() throws Exception {
+        List<Talent> talents = talentRepository.findAll(PageRequest.of(0, Math.max(threads, 200))).getContent();
+        emails = talents.stream().map(Talent::getEmail).toList();
+        talentIds = talentRepository.findGeneralInfos(PageRequest.of(0, 10_000)).stream()
+                .mapToLong(TalentGeneralInfo::getId)
+                .toArray();
+
+        sessions = new Session[threads];
+        for (int worker = 0; worker < threads; worker++) {
+            sessions[worker] = register("load.session." + worker + "." + UUID.randomUUID() + "@gmail.com");
+        }
+    }
+
+    @Test
+    @DisplayName("[US-1] - Talent API does not regress under load")
+    void talentApiDoesNotRegressUnderLoad() throws Exception {
+        LoadDriver driver = new LoadDriver(threads, warmupSeconds, durationSeconds);
+        Map<String, LoadResult> results = new LinkedHashMap<>();
+
+        results.put("listing", driver.run("listing", (worker, prepared) -> listing()));
+        results.put("profile", driver.run("profile", (worker, prepared) -> profile(worker)));
+        results.put("listing-v2", driver.run("listing-v2", (worker, prepared) -> listing("/api/v2/talents")));
+        results.put("profile-v2", driver.run("profile-v2", (worker, prepared) -> profile("/api/v2/talents/", worker)));
+        results.put("login", driver.run("login", (worker, prepared) -> login()));
+        results.put("registration", driver.run("registration", (worker, prepared) -> registration()));
+        results.put("update", driver.run("update", (worker, prepared) -> update(worker)));
+        results.put("delete", driver.run("delete", new LoadOperation<Session>() {
+            @Override
+            public Session prepare(int worker) throws Exception {
+                return register("load.delete." + UUID.randomUUID() + "@gmail.com");
+            }
+
+            @Override
+            public int execute(int worker, Session session) throws Exception {
+                return send(authorized(request("/api/v1/talents/" + session.talentId()), session).DELETE());
+            }
+        }));
+        results.put("mixed", driver.run("mixed", (worker, prepared) -> {
+            int dice = ThreadLocalRandom.current().nextInt(100);
+            if (dice < 60) {
+                return listing();
+            } else if (dice < 85) {
+                return profile(worker);
+            } else if (dice < 90) {
+                return login();
+            } else if (dice < 95) {
+                return registration();
+            }
+            return update(worker);
+        }));
+
+        results.values().forEach(System.out::println);
+        Path resultsFile = Path.of("target", "load", "results.json");
+        Files.createDirectories(resultsFile.getParent());
+        objectMapper.writeValue(resultsFile.toFile(), results);
+        writeApiComparison(results, resultsFile.resolveSibling("v2-comparison.json"));
+
+        if (updateBaseline) {
+            Files.createDirectories(baselineFile.toAbsolutePath().getParent());
+            objectMapper.writeValue(baselineFile.toFile(), results);
+            return;
+        }
+        assertNoRegressions(results);
+    }
+
+    private void assertNoRegressions(Map<String, LoadResult> results) throws Exception {
+        /* without a baseline only error rate could be checked, so a missing one fails the gate instead of passing it */
+        assertThat(baselineFile)
+                .as("Baseline is missing, record it on the reference machine with -Dload.update-baseline=true")
+                .exists();
+        Map<String, LoadResult> baseline = objectMapper.readValue(baselineFile.toFile(),
+                new TypeReference<LinkedHashMap<String, LoadResult>>() {});
+
+        List<String> regressions = new ArrayList<>();
+        for (LoadResult result : results.values()) {
+            if (result.errorRate() > maxErrorRate) {
+                regressions.add(String.format("%s: error rate %.4f is above %.4f", result.scenario(), result.errorRate(), maxErrorRate));
+            }
+            LoadResult expected = baseline.get(result.scenario());
+            if (expected == null) {
+                regressions.add(String.format("%s: no baseline, record it with -Dload.update-baseline=true", result.scenario()));
+                continue;
+            }
+            if (result.throughput() < expected.throughput() * (1 - regressionThreshold)) {
+                regressions.add(String.format("%s: throughput %.1f ops/s, baseline %.1f ops/s",
+                        result.scenario(), result.throughput(), expected.throughput()));
+            }
+            if (result.p99() > expected.p99() * (1 + regressionThreshold)) {
+                regressions.add(String.format("%s: p99 %.2f ms, baseline %.2f ms",
+                        result.scenario(), result.p99(), expected.p99()));
+            }
+        }
+        assertThat(regressions).as("Regressions against %s", baselineFile).isEmpty();
+    }
+
+    /**
+     * Compare asynchronous v2 read scenarios with their v1 counterparts of the same run,
+     * ratios above 1 mean v2 serves more requests or has a longer tail
+     * */
+    private void writeApiComparison(Map<String, LoadResult> results, Path comparisonFile) throws Exception {
+        Map<String, Map<String, Double>> comparison = new LinkedHashMap<>();
+        for (String scenario : List.of("listing", "profile")) {
+            LoadResult v1 = results.get(scenario);
+            LoadResult v2 = results.get(scenario + "-v2");
+            Map<String, Double> ratios = new LinkedHashMap<>();
+            ratios.put("throughput_ratio", v2.throughput() / v1.throughput());
+            ratios.put("p99_ratio", v2.p99() / v1.p99());
+            comparison.put(scenario, ratios);
+            System.out.printf("%s v2/v1: throughput x%.2f, p99 x%.2f%n",
+                    scenario, ratios.get("throughput_ratio"), ratios.get("p99_ratio"));
+        }
+        objectMapper.writeValue(comparisonFile.toFile(), comparison);
+    }
+
+    private int listing() throws Exception {
+        return listing("/api/v1/talents");
+    }
+
+    private int listing(String path) throws Exception {
+        int pages = Math.max(1, talentIds.length / PAGE_SIZE);
+        return send(request(path + "?page=" + ThreadLocalRandom.current().nextInt(pages) + "&size=" + PAGE_SIZE).GET());
+    }
+
+    private int profile(int worker) throws Exception {
+        return profile("/api/v1/talents/", worker);
+    }
+
+    private int profile(String path, int worker) throws Exception {
+        long id = talentIds[ThreadLocalRandom.current().nextInt(talentIds.length)];
+        return send(authorized(request(path + id), sessions[worker]).GET());
+    }
+
+    private int login() throws Exception {
+        String email = emails.get(ThreadLocalRandom.current().nextInt(emails.size()));
+        return send(json(request("/api/v1/talents/login"), Map.of("email", email, "password", PASSWORD)));
+    }
+
+    private int registration() throws Exception {
+        return send(json(request("/api/v1/talents"), registrationBody("load." + UUID.randomUUID() + "@gmail.com")));
+    }
+
+    private int update(int worker) throws Exception {
+        Session session = sessions[worker];
+        Map<String, Object> body = Map.of(
+                "lastname", "Doe",
+                "firstname", "John",
+                "skills", List.of("Java", "Spring", "Skill " + ThreadLocalRandom.current().nextInt(100)),
+                "location", "Ukraine, Kyiv",
+                "about_me", "Updated by load test");
+        HttpRequest.Builder request = authorized(request("/api/v1/talents/" + session.talentId()), session)
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        return send(request);
+    }
+
+    private Session register(String email) throws Exception {
+        HttpResponse<String> response = httpClient.send(
+                json(request("/api/v1/talents"), registrationBody(email)).build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).as("registration of %s", email).isBetween(200, 299);
+        String token = objectMapper.readTree(response.body()).get("jwt_token").asText();
+        return new Session(JWT.decode(token).getClaim(TALENT_ID_CLAIM).asLong(), token);
+    }
+
+    private Map<String, Object> registrationBody(String email) {
+        return Map.of(
+                "lastname", "Doe",
+                "firstname", "John",
+                "email", email,
+                "password", PASSWORD,
+                "skills", List.of("Java", "Spring"));
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).timeout(Duration.ofSeconds(30));
+    }
+
+    private HttpRequest.Builder authorized(HttpRequest.Builder request, Session session) {
+        return request.header("Authorization", "Bearer " + session.token());
+    }
+
+    private HttpRequest.Builder json(HttpRequest.Builder request, Object body) throws Exception {
+        return request.header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+    }
+
+    private int send(HttpRequest.Builder request) throws Exception {
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
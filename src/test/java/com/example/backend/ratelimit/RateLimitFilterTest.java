@@ -0,0 +1,105 @@
+package com.example.backend.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class RateLimitFilterTest {
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    public void setUp() {
+        RateLimitRule loginRule = new RateLimitRule("login", "POST", "/api/v1/talents/login",
+                RateLimit.parse("3/PT1M"), RateLimit.parse("2/PT1M"));
+        rateLimitFilter = new RateLimitFilter(new RateLimiter(100), List.of(loginRule), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Take tokens in a burst and refill them over the period")
+    void takeTokensInBurstAndRefillThem() {
+        TokenBucket bucket = new TokenBucket(new RateLimit(2, Duration.ofSeconds(2)), 0);
+
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isEqualTo(Duration.ofSeconds(1).toNanos());
+        assertThat(bucket.tryAcquire(Duration.ofSeconds(1).toNanos())).isZero();
+        assertThat(RateLimit.parse(" ")).isNull();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Reject login over email limit with 429 and replay body of allowed ones")
+    void rejectLoginOverEmailLimit() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            MockFilterChain chain = new MockFilterChain();
+            MockHttpServletResponse response = login("John.Doe@gmail.com", "10.0.0." + i, chain);
+
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8))
+                    .isEqualTo(loginBody("John.Doe@gmail.com"));
+        }
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = login("john.doe@gmail.com", "10.0.0.3", chain);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("30");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Reject requests over address limit before reading body")
+    void rejectRequestsOverAddressLimit() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            login("talent" + i + "@gmail.com", "10.0.0.1", new MockFilterChain());
+        }
+
+        MockHttpServletResponse response = login("other@gmail.com", "10.0.0.1", new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("20");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Apply limit to encoded path of limited route")
+    void applyLimitToEncodedPath() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            login("talent" + i + "@gmail.com", "10.0.0.1", new MockFilterChain());
+        }
+
+        MockHttpServletResponse response = login("/api/v1/talents/%6cogin", "other@gmail.com", "10.0.0.1",
+                new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(429);
+    }
+
+    private MockHttpServletResponse login(String email, String address, MockFilterChain chain) throws Exception {
+        return login("/api/v1/talents/login", email, address, chain);
+    }
+
+    private MockHttpServletResponse login(String path, String email, String address, MockFilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setRemoteAddr(address);
+        request.setContentType("application/json");
+        request.setContent(loginBody(email).getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static String loginBody(String email) {
+        return "{\"password\":\"1234567890\",\"email\":\"" + email + "\"}";
+    }
+}